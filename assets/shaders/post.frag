@@ -0,0 +1,53 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+
+uniform sampler2D u_texture;
+uniform vec4 u_viewport;  // letterboxed game area in window pixels: x, y, width, height
+uniform float u_seed;     // new every frame, so the glitch bars jump around like the old random rects
+uniform float u_glitch;   // magnetic storm strength, 0..1
+uniform float u_vignette; // raid strength, 0..1
+
+const vec2 WORLD = vec2(800.0, 600.0);
+const float BAND = 3.0;   // glitch bar height in world pixels
+const vec3 CYAN = vec3(0.0, 0.9, 1.0);
+const vec3 RED = vec3(1.0, 0.0, 0.3);
+
+float hash(float n) {
+    return fract(sin(n * 12.9898 + u_seed * 78.233) * 43758.5453);
+}
+
+void main() {
+    vec2 world = (gl_FragCoord.xy - u_viewport.xy) / u_viewport.zw * WORLD;
+    vec2 uv = v_texCoords;
+
+    // Glitch: a few thin bars per frame, each shifting the image sideways and tinting it cyan or red
+    float band = floor(world.y / BAND);
+    float tint = 0.0;
+    vec3 tintColor = CYAN;
+    if (u_glitch > 0.0 && hash(band) < 0.02) {
+        float start = hash(band + 0.1) * 850.0 - 50.0;
+        float width = 50.0 + hash(band + 0.2) * 450.0;
+        if (world.x >= start && world.x <= start + width) {
+            bool cyan = hash(band + 0.3) < 0.7;
+            tintColor = cyan ? CYAN : RED;
+            tint = (cyan ? 0.5 : 0.4) * u_glitch;
+            uv.x += (hash(band + 0.4) - 0.5) * 0.02 * u_glitch;
+        }
+    }
+
+    vec3 color = texture2D(u_texture, uv).rgb;
+    color = mix(color, tintColor, tint);
+
+    // Scanlines: darken every other world row slightly while the storm is up
+    color *= 1.0 - 0.12 * u_glitch * step(1.0, mod(world.y, 2.0));
+
+    // Vignette: pull the corners in as the raid builds
+    vec2 centered = world / WORLD - 0.5;
+    color *= 1.0 - u_vignette * 0.6 * smoothstep(0.3, 0.75, length(centered));
+
+    gl_FragColor = vec4(color, 1.0) * v_color;
+}
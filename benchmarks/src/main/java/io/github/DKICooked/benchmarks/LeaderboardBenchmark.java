@@ -0,0 +1,69 @@
+package io.github.DKICooked.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import io.github.DKICooked.entities.LBScore;
+import io.github.DKICooked.gameLogic.Leaderboard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Queries against a history of {@link #RUNS} runs spread over the three characters, and adding one more. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+    private static final int RUNS = 50_000;
+    private static final int ADDS = 10_000;
+    private static final String[] CHARACTERS = { "Alaine", "Jerick", "Timothy" };
+
+    private final Array<LBScore> out = new Array<>();
+    private Leaderboard board;
+    private RandomXS128 random;
+
+    @Setup(Level.Iteration)
+    public void fillBoard() {
+        board = new Leaderboard();
+        random = new RandomXS128(Seeds.WORLD);
+        for (int i = 0; i < RUNS; i++) board.add("AAA", nextScore(), CHARACTERS[i % CHARACTERS.length]);
+        board.takePending();
+    }
+
+    private int nextScore() {
+        return random.nextInt(2000);
+    }
+
+    /** Timed in batches on a fresh board each time, so the history does not grow without bound. */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = ADDS)
+    @Measurement(iterations = 20, batchSize = ADDS)
+    public LBScore add() {
+        return board.add("NEW", nextScore(), CHARACTERS[0]);
+    }
+
+    @Benchmark
+    public int rankOf() {
+        return board.rankOf(nextScore());
+    }
+
+    @Benchmark
+    public int rankOfCharacter() {
+        return board.rankOf(nextScore(), CHARACTERS[1]);
+    }
+
+    @Benchmark
+    public Array<LBScore> top10() {
+        out.clear();
+        return board.top(10, out);
+    }
+
+    @Benchmark
+    public Array<LBScore> pageAroundRank() {
+        out.clear();
+        return board.page(board.rankOf(nextScore()), 10, out);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.DKICooked.benchmarks;
+
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.generationLogic.LevelGenerator;
+import io.github.DKICooked.gameLogic.generationLogic.LevelGenerator.ChunkTheme;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Generating one chunk, per layout theme. Cycles through real chunks of the theme, since layouts vary within one. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelGeneratorBenchmark {
+    private static final int CHUNKS = 64;
+
+    @Param
+    public ChunkTheme theme;
+
+    private final LevelGenerator generator = new LevelGenerator(Seeds.WORLD);
+    private final PlatformStore store = new PlatformStore();
+    private final int[] chunks = new int[CHUNKS];
+    private int next = 0;
+
+    @Setup
+    public void findChunks() {
+        // Chunk 0 carries the ground as well, so start above it
+        int found = 0;
+        for (int index = 1; found < CHUNKS; index++) {
+            if (generator.themeOf(index) == theme) chunks[found++] = index;
+        }
+    }
+
+    @Benchmark
+    public PlatformStore generateChunk() {
+        store.clear();
+        generator.generateChunk(store, chunks[next], WorldManager.CHUNK_HEIGHT);
+        next = (next + 1) % CHUNKS;
+        return store;
+    }
+}
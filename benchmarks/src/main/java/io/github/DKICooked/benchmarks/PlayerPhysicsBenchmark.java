@@ -0,0 +1,94 @@
+package io.github.DKICooked.benchmarks;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.entities.PlayerActor;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.FixedStepScheduler;
+import io.github.DKICooked.gameLogic.physics.PhysicsBody;
+import io.github.DKICooked.gameLogic.physics.PlayerPhysicsProcessor;
+import io.github.DKICooked.gameLogic.sim.SimulationListener;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One physics tick for a player among a generated tower's platforms. Every call starts from one of a
+ * set of states taken around the active platforms, so the broadphase and landing checks see real geometry:
+ * standing on a platform while running, or dropping onto one from just above.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerPhysicsBenchmark {
+    private static final int CHUNK = 3; // high enough that the chunks either side are regular ones
+    private static final float TICK = FixedStepScheduler.DEFAULT_TICK;
+
+    @Param({"Timothy", "Alaine", "Jerick"})
+    public String character;
+
+    private WorldManager world;
+    private PlayerActor player;
+    private PhysicsBody body;
+    private PlayerPhysicsProcessor physics;
+
+    // Start states, one entry per sample: x, y, vertical speed, grounded
+    private final FloatArray startX = new FloatArray(), startY = new FloatArray(), startVY = new FloatArray();
+    private boolean[] startGrounded;
+    private int next = 0;
+
+    @Setup
+    public void climb() {
+        world = new WorldManager(Seeds.WORLD);
+        world.update(CHUNK * WorldManager.CHUNK_HEIGHT + WorldManager.CHUNK_HEIGHT / 2f);
+
+        player = new PlayerActor(SimulationListener.NONE);
+        player.setSize(40, 60);
+        player.initStats(character);
+        body = player.getBody();
+        physics = new PlayerPhysicsProcessor(player, body, SimulationListener.NONE);
+
+        PlatformStore store = world.getPlatformStore();
+        IntArray active = world.getActivePlatforms();
+        for (int i = 0; i < active.size; i++) {
+            int p = active.items[i];
+            if (store.kind[p] == PlatformStore.WALL) continue;
+            float x = (store.x1[p] + store.x2[p]) / 2f - player.getWidth() / 2f;
+            addStart(x, store.y1[p], 0f);       // standing
+            addStart(x, store.y1[p] + 20f, -600f); // landing
+        }
+        startGrounded = new boolean[startX.size];
+        for (int i = 0; i < startGrounded.length; i += 2) startGrounded[i] = true;
+    }
+
+    private void addStart(float x, float y, float velocityY) {
+        startX.add(x);
+        startY.add(y);
+        startVY.add(velocityY);
+    }
+
+    @TearDown
+    public void dispose() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public float update() {
+        int i = next;
+        next = (next + 1) % startX.size;
+
+        player.setPosition(startX.items[i], startY.items[i]);
+        body.velocityX = 150f;
+        body.velocityY = startVY.items[i];
+        physics.isGrounded = startGrounded[i];
+        physics.isCharging = false;
+        physics.stunTime = 0f;
+
+        physics.update(TICK, world, 1f, false, false);
+        return player.getY();
+    }
+}
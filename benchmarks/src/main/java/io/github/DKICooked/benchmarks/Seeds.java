@@ -0,0 +1,8 @@
+package io.github.DKICooked.benchmarks;
+
+/** Fixed seeds, so every run and the baseline measure the same towers. */
+final class Seeds {
+    static final long WORLD = 0x5EEDL;
+
+    private Seeds() {}
+}
@@ -0,0 +1,47 @@
+package io.github.DKICooked.benchmarks;
+
+import io.github.DKICooked.gameLogic.WorldManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WorldManager#update} on a climb. Crossing a chunk every call outruns the prefetcher, so that case
+ * includes waiting on generation and measures the worst case; the steady case is the per-frame cost between crossings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldStreamingBenchmark {
+    private WorldManager world;
+    private float playerY;
+
+    @Setup(Level.Iteration)
+    public void newWorld() {
+        world = new WorldManager(Seeds.WORLD);
+        playerY = WorldManager.CHUNK_HEIGHT / 2f;
+        world.update(playerY);
+    }
+
+    @TearDown(Level.Iteration)
+    public void dispose() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public int crossChunk() {
+        playerY += WorldManager.CHUNK_HEIGHT;
+        world.update(playerY);
+        return world.getCurrentChunk();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int withinChunk() {
+        world.update(playerY);
+        return world.getCurrentChunk();
+    }
+}
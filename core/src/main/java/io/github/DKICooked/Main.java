@@ -2,40 +2,72 @@ package io.github.DKICooked;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.DKICooked.assets.Assets;
+import io.github.DKICooked.assets.Fonts;
 import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.gameLogic.SaveManager;
+import io.github.DKICooked.gameLogic.physics.FixedStepScheduler;
+import io.github.DKICooked.profiling.Profiler;
+import io.github.DKICooked.render.RenderStats;
 import io.github.DKICooked.screen.main.IntroScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class Main extends ApplicationAdapter {
-    private SpriteBatch batch;
-    private Texture image;
     private Screen currentScreen;
     public SoundPlayer soundPlayer;
+    public Assets assets;
+    public Fonts fonts;
+    public RenderStats renderStats;
+    public Profiler profiler;
+    public SaveManager saves;
+    public final float tick; // seconds per simulation step for every climb started this session
+    private Profiler.Phase framePhase, intervalPhase;
+
+    public Main() {
+        this(FixedStepScheduler.DEFAULT_TICK);
+    }
+
+    /** @param tick seconds per simulation step; a coarser tick lightens the load on slow machines */
+    public Main(float tick) {
+        this.tick = tick;
+    }
 
 
     @Override
     public void create() {
-        batch = new SpriteBatch();
         soundPlayer = new SoundPlayer();
+        assets = new Assets();
+        assets.queueResident(); // Streams in while the intro and splash play
+        fonts = new Fonts();
+        saves = new SaveManager();
+        renderStats = new RenderStats();
+        profiler = new Profiler();
+        framePhase = profiler.phase("frame");       // work done inside render()
+        intervalPhase = profiler.phase("interval"); // time between frames, including vsync and the buffer swap
 
         setScreen(new IntroScreen(this));
     }
 
     @Override
     public void render() {
-        ScreenUtils.clear(0.15f, 0.15f, 0.2f, 1f);
+        framePhase.begin();
+        // Every screen clears the frame itself
+        assets.update();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) renderStats.toggle();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) profiler.toggleOverlay();
 
         float delta = Gdx.graphics.getDeltaTime();
+        intervalPhase.record((long) (delta * 1_000_000_000L));
         currentScreen.render(delta);
+        saves.flush(); // Hands anything a screen changed to the background writer
 
-        batch.begin();
-        batch.end();
+        renderStats.endFrame();
+        framePhase.end();
     }
 
     @Override
@@ -45,9 +77,18 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void dispose() {
-        if (batch != null) batch.dispose();
-        if (image != null) image.dispose();
+        if (profiler != null) {
+            try {
+                profiler.dump(Gdx.files.local("profiles"));
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("Main", "Could not write the session profile", e);
+            }
+        }
         if (soundPlayer != null) soundPlayer.dispose();
+        if (currentScreen != null) currentScreen.dispose();
+        if (saves != null) saves.dispose(); // After the screen, which may still record a run
+        if (fonts != null) fonts.dispose();
+        if (assets != null) assets.dispose();
     }
 
     public void setScreen(Screen newScreen) {
@@ -0,0 +1,98 @@
+package io.github.DKICooked.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Disposable;
+import io.github.DKICooked.entities.GameAtlas;
+
+/**
+ * App-wide asset service backed by a libGDX {@link AssetManager}.
+ * The resident set is queued at startup and streamed in a slice per frame while the intro plays; it holds
+ * its own reference for the life of the app, so screens built over and over (every RETRY) never reload it.
+ * Screens take a reference with {@link #acquire} and hand it back with {@link #release}; an asset is
+ * disposed once its last reference is released.
+ */
+public class Assets implements Disposable {
+    private static final int FRAME_BUDGET_MS = 8; // loading time allowed per frame while the intro plays
+
+    // Everything a run of the game draws, kept loaded between runs
+    private static final String[] RESIDENT_TEXTURES = {
+        "Pause.png", "GO.png", "Paused.png"
+    };
+    public static final String RAIL = "rail.png";
+    private static final String BACKGROUND_PNG = "background.png";
+    private static final String BACKGROUND_ETC2 = "compressed/background.ktx"; // written by :core:compressTextures
+
+    private final AssetManager manager = new AssetManager(new InternalFileHandleResolver());
+    private final String background = supportsEtc2() && Gdx.files.internal(BACKGROUND_ETC2).exists()
+        ? BACKGROUND_ETC2 : BACKGROUND_PNG;
+
+    public void queueResident() {
+        manager.load(GameAtlas.PATH, TextureAtlas.class);
+        for (String path : RESIDENT_TEXTURES) {
+            manager.load(path, Texture.class);
+        }
+
+        // The parallax layers fill the screen every frame, minified from ~1100 px tall art:
+        // mipmaps keep that cheap on fill rate and free of shimmer as they scroll
+        TextureLoader.TextureParameter parallax = new TextureLoader.TextureParameter();
+        parallax.genMipMaps = true; // the KTX variant carries its own levels; the PNGs get them generated
+        parallax.minFilter = Texture.TextureFilter.MipMapLinearLinear;
+        parallax.magFilter = Texture.TextureFilter.Linear;
+        parallax.wrapU = Texture.TextureWrap.Repeat;
+        parallax.wrapV = Texture.TextureWrap.Repeat;
+        manager.load(background, Texture.class, parallax);
+        manager.load(RAIL, Texture.class, parallax);
+    }
+
+    /** Path of the starfield backdrop: the ETC2 KTX where the GPU samples ETC2 natively, else the PNG. */
+    public String background() {
+        return background;
+    }
+
+    /** ETC2 is core in OpenGL ES 3.0 and OpenGL 4.3, and desktop drivers expose it to older contexts through ARB_ES3_compatibility. */
+    private static boolean supportsEtc2() {
+        GLVersion version = Gdx.graphics.getGLVersion();
+        if (version.getType() == GLVersion.Type.GLES) return version.isVersionEqualToOrHigher(3, 0);
+        return version.isVersionEqualToOrHigher(4, 3) || Gdx.graphics.supportsExtension("GL_ARB_ES3_compatibility");
+    }
+
+    /** Loads the next slice of the queue. Call once per frame; true once everything queued is ready. */
+    public boolean update() {
+        return manager.update(FRAME_BUDGET_MS);
+    }
+
+    /** Share of the queued assets that are loaded, from 0 to 1. */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Takes a reference to {@code path} and returns it, loading it right away if it is not in memory yet.
+     * Every acquire must be paired with a {@link #release}.
+     */
+    public <T> T acquire(String path, Class<T> type) {
+        manager.load(path, type);
+        manager.finishLoadingAsset(path);
+        return manager.get(path, type);
+    }
+
+    public Texture texture(String path) {
+        return acquire(path, Texture.class);
+    }
+
+    /** Drops one reference taken by {@link #acquire}. */
+    public void release(String path) {
+        manager.unload(path);
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+    }
+}
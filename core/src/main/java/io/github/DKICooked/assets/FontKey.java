@@ -0,0 +1,69 @@
+package io.github.DKICooked.assets;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+
+/**
+ * Everything that changes how a font rasterizes. Screens asking for equal keys share one font,
+ * and the key doubles as the font's file name in the on-disk cache.
+ */
+public final class FontKey {
+    private static final Color SHADOW_COLOR = new Color(0, 0, 0, 0.5f);
+    static final String CHARACTERS = FreeTypeFontGenerator.DEFAULT_CHARS; // the same for every key
+
+    public final int size;
+    public final float border;  // black outline width, 0 for none
+    public final int shadow;    // drop shadow offset in pixels (right and down), 0 for none
+    public final Color color;
+
+    public FontKey(int size, float border, int shadow, Color color) {
+        this.size = size;
+        this.border = border;
+        this.shadow = shadow;
+        this.color = new Color(color);
+    }
+
+    public static FontKey plain(int size) {
+        return new FontKey(size, 0f, 0, Color.WHITE);
+    }
+
+    FreeTypeFontParameter toParameter() {
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.characters = CHARACTERS;
+        parameter.color = color;
+        parameter.borderWidth = border;
+        parameter.borderColor = Color.BLACK;
+        parameter.shadowOffsetX = shadow;
+        parameter.shadowOffsetY = shadow;
+        parameter.shadowColor = SHADOW_COLOR;
+        return parameter;
+    }
+
+    String fileName() {
+        return "s" + size + "_b" + border + "_sh" + shadow + "_" + color;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FontKey)) return false;
+        FontKey other = (FontKey) o;
+        return size == other.size && border == other.border && shadow == other.shadow && color.equals(other.color);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        result = 31 * result + Float.floatToIntBits(border);
+        result = 31 * result + shadow;
+        result = 31 * result + color.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return fileName();
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.DKICooked.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Shared fonts in two tiers.
+ * In memory, one ref-counted {@link BitmapFont} per {@link FontKey} is handed to every screen that asks for it.
+ * On disk, each key FreeType has rasterized is kept as an AngelCode {@code .fnt} plus page PNGs in local storage,
+ * so {@code new_font.ttf} is rasterized at most once per install rather than on every screen build.
+ */
+public class Fonts implements Disposable {
+    private static final String TTF = "new_font.ttf";
+    private static final int PAGE_SIZE = 512;
+    private static final String CACHE_ROOT = "fontcache";
+    private static final int CACHE_FORMAT = 2; // bump whenever writeFont changes what it writes
+
+    private final ObjectMap<FontKey, Entry> loaded = new ObjectMap<>();
+    private FileHandle cacheDir;
+
+    /** Takes a reference to the font for {@code key}. Pair with {@link #release}. */
+    public BitmapFont acquire(FontKey key) {
+        Entry entry = loaded.get(key);
+        if (entry == null) {
+            entry = new Entry(load(key));
+            loaded.put(key, entry);
+        }
+        entry.refs++;
+        return entry.font;
+    }
+
+    /** Drops one reference; the font is disposed once nothing holds it. It stays in the disk tier. */
+    public void release(FontKey key) {
+        Entry entry = loaded.get(key);
+        if (entry == null) return;
+        if (--entry.refs == 0) {
+            loaded.remove(key);
+            entry.font.dispose();
+        }
+    }
+
+    private BitmapFont load(FontKey key) {
+        FileHandle fnt = cacheDir().child(key.fileName() + ".fnt");
+        if (fnt.exists()) {
+            try {
+                return new BitmapFont(fnt);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("Fonts", "Discarding unreadable cached font " + fnt.name(), e);
+            }
+        }
+        return rasterize(key, fnt);
+    }
+
+    private BitmapFont rasterize(FontKey key, FileHandle fnt) {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal(TTF));
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false);
+        try {
+            FreeTypeFontParameter parameter = key.toParameter();
+            parameter.packer = packer; // Our packer keeps the page pixmaps around for writing
+            packer.setTransparentColor(parameter.borderWidth > 0 ? parameter.borderColor : parameter.color);
+            packer.getTransparentColor().a = 0;
+
+            try {
+                writeFont(generator.generateData(parameter), packer.getPages(), fnt);
+                return new BitmapFont(fnt);
+            } catch (GdxRuntimeException e) {
+                // Read-only storage: still give the screen its font, just without caching it
+                Gdx.app.error("Fonts", "Could not cache font " + key, e);
+                return generator.generateFont(key.toParameter());
+            }
+        } finally {
+            packer.dispose();
+            generator.dispose();
+        }
+    }
+
+    /** Writes {@code data} in the text {@code .fnt} format, with exact metrics so the reload matches FreeType. */
+    private static void writeFont(BitmapFontData data, Array<PixmapPacker.Page> pages, FileHandle fnt) {
+        String base = fnt.nameWithoutExtension();
+        StringBuilder out = new StringBuilder(8192);
+        out.append("info face=\"").append(base).append("\" size=0 bold=0 italic=0 charset=\"\" unicode=0")
+            .append(" stretchH=100 smooth=1 aa=1 padding=0,0,0,0 spacing=0,0\n");
+        out.append("common lineHeight=").append((int) data.lineHeight)
+            .append(" base=").append((int) (data.capHeight + data.ascent))
+            .append(" scaleW=").append(PAGE_SIZE).append(" scaleH=").append(PAGE_SIZE)
+            .append(" pages=").append(pages.size).append(" packed=0\n");
+        for (int i = 0; i < pages.size; i++) {
+            String page = base + "_" + i + ".png";
+            PixmapIO.writePNG(fnt.sibling(page), pages.get(i).getPixmap());
+            out.append("page id=").append(i).append(" file=\"").append(page).append("\"\n");
+        }
+
+        Array<Glyph> glyphs = new Array<>();
+        for (Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (Glyph glyph : page) {
+                if (glyph != null) glyphs.add(glyph);
+            }
+        }
+        out.append("chars count=").append(glyphs.size).append('\n');
+        for (Glyph g : glyphs) {
+            out.append("char id=").append(g.id)
+                .append(" x=").append(g.srcX).append(" y=").append(g.srcY)
+                .append(" width=").append(g.width).append(" height=").append(g.height)
+                .append(" xoffset=").append(g.xoffset).append(" yoffset=").append(-(g.height + g.yoffset))
+                .append(" xadvance=").append(g.xadvance).append(" page=").append(g.page).append(" chnl=0\n");
+        }
+
+        int kernings = 0;
+        StringBuilder kerning = new StringBuilder();
+        for (int i = 0; i < glyphs.size; i++) {
+            Glyph first = glyphs.get(i);
+            for (int j = 0; j < glyphs.size; j++) {
+                Glyph second = glyphs.get(j);
+                int amount = first.getKerning((char) second.id);
+                if (amount == 0) continue;
+                kerning.append("kerning first=").append(first.id).append(" second=").append(second.id)
+                    .append(" amount=").append(amount).append('\n');
+                kernings++;
+            }
+        }
+        out.append("kernings count=").append(kernings).append('\n').append(kerning);
+
+        out.append("metrics ascent=").append(data.ascent).append(" descent=").append(data.descent)
+            .append(" down=").append(data.down).append(" capHeight=").append(data.capHeight)
+            .append(" lineHeight=").append(data.lineHeight).append(" spaceXAdvance=").append(data.spaceXadvance)
+            .append(" xHeight=").append(data.xHeight).append('\n');
+
+        fnt.writeString(out.toString(), false, "UTF-8");
+    }
+
+    /**
+     * One directory per combination of TTF contents, character set and cache format, so changing any of them
+     * invalidates everything baked before. Directories left by an older combination are deleted.
+     */
+    private FileHandle cacheDir() {
+        if (cacheDir == null) {
+            FileHandle root = Gdx.files.local(CACHE_ROOT);
+            cacheDir = root.child("v" + CACHE_FORMAT + "_" + contentHash());
+            for (FileHandle stale : root.list()) {
+                if (!stale.name().equals(cacheDir.name())) stale.deleteDirectory();
+            }
+        }
+        return cacheDir;
+    }
+
+    private static String contentHash() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new GdxRuntimeException(e); // every Java platform has SHA-256
+        }
+        digest.update(Gdx.files.internal(TTF).readBytes());
+        digest.update(FontKey.CHARACTERS.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = digest.digest();
+        StringBuilder hex = new StringBuilder(32);
+        for (int i = 0; i < 16; i++) { // 128 bits is plenty to tell revisions apart
+            hex.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry entry : loaded.values()) entry.font.dispose();
+        loaded.clear();
+    }
+
+    private static class Entry {
+        final BitmapFont font;
+        int refs;
+        Entry(BitmapFont font) { this.font = font; }
+    }
+}
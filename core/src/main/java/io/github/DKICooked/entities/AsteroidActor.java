@@ -1,30 +1,44 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Pool;
+import io.github.DKICooked.gameLogic.physics.HazardBroadphase;
+import io.github.DKICooked.gameLogic.physics.Ticked;
+import io.github.DKICooked.gameLogic.physics.TickedPosition;
 
-public class AsteroidActor extends Actor {
-    private Texture texture;
-    private TextureRegion region;
-    private final float fallSpeedY;
-    private final float fallSpeedX;
-    private Circle collisionCircle = new Circle();
+public class AsteroidActor extends Actor implements Pool.Poolable, Collidable, Ticked {
+    private static final float SPIN_SPEED = 120f; // degrees per second
 
-    public AsteroidActor(Texture texture, float startX, float startY) {
-        this.region = new TextureRegion(texture);
-        setX(startX);
-        setY(startY);
+    private final TextureRegion region;
+    private final AsteroidManager manager;
+    private float fallSpeedY;
+    private float fallSpeedX;
+    private float spin, prevSpin; // rotation at the latest tick and the one before, blended like the position
+    private final Circle collisionCircle = new Circle();
+    private final TickedPosition position = new TickedPosition();
+    final HazardBroadphase.Entry hazardEntry = new HazardBroadphase.Entry(this);
+
+    public AsteroidActor(TextureRegion region, AsteroidManager manager) {
+        this.region = region;
+        this.manager = manager;
         setSize(64, 64);
         setOrigin(getWidth() / 2f, getHeight() / 2f);
+    }
 
-        this.fallSpeedY = 300f + (float)Math.random() * 200f;
+    /** Places a (possibly recycled) asteroid at its spawn point with a fresh trajectory. */
+    public void init(float startX, float startY, float fallSpeedX, float fallSpeedY) {
+        setX(startX);
+        setY(startY);
+        position.reset(this);
+        spin = prevSpin = 0;
 
-        this.fallSpeedX = -150f - MathUtils.random(100f);
+        this.fallSpeedY = fallSpeedY;
+        this.fallSpeedX = fallSpeedX;
     }
 
     public Circle getCollisionCircle() {
@@ -38,21 +52,65 @@ public class AsteroidActor extends Actor {
     }
 
     @Override
-    public void act(float delta) {
-        super.act(delta);
+    public boolean overlaps(Rectangle rect) {
+        // At up to 500 px/s a long frame moves the asteroid further than its own radius, so test the whole path
+        Circle c = getCollisionCircle();
+        return HazardBroadphase.sweptCircleOverlaps(prevCenterX(), prevCenterY(), c.x, c.y, c.radius, rect);
+    }
 
-        // Update both X and Y for the diagonal slide
-        setX(getX() + fallSpeedX * delta);
-        setY(getY() - fallSpeedY * delta);
+    @Override
+    public void getSweptBounds(Rectangle out) {
+        Circle c = getCollisionCircle();
+        float prevX = prevCenterX(), prevY = prevCenterY();
+        out.set(Math.min(prevX, c.x) - c.radius, Math.min(prevY, c.y) - c.radius,
+            Math.abs(c.x - prevX) + c.radius * 2f,
+            Math.abs(c.y - prevY) + c.radius * 2f);
+    }
 
-        setRotation(getRotation() + 2);
+    // Circle center before the latest tick, for swept collision
+    private float prevCenterX() { return position.prevX + getWidth() / 2f; }
+    private float prevCenterY() { return position.prevY + getHeight() / 2f; }
+
+    @Override
+    public void beginTicks() {
+        position.begin(this);
+    }
+
+    @Override
+    public void tick(float dt) {
+        position.beforeTick(this);
+        prevSpin = spin;
+        spin += SPIN_SPEED * dt;
+
+        // Update both X and Y for the diagonal slide
+        setX(getX() + fallSpeedX * dt);
+        setY(getY() - fallSpeedY * dt);
 
         // Clean up if it leaves the screen (left side or bottom)
-        if (getX() < -100 || (getStage() != null && getY() < getStage().getCamera().position.y - 400)) {
-            remove();
+        if (getX() < -100 || getY() < manager.getViewBottom() - 100) {
+            despawn();
+        } else {
+            manager.moved(this);
         }
     }
 
+    @Override
+    public void endTicks(float alpha) {
+        position.end(this, alpha);
+        setRotation(MathUtils.lerp(prevSpin, spin, alpha));
+    }
+
+    /** Takes the asteroid off the stage and hands it back to its manager. */
+    public void despawn() {
+        manager.despawn(this);
+    }
+
+    @Override
+    public void reset() {
+        clearActions();
+        setRotation(0);
+    }
+
     @Override
     public void draw(Batch batch, float parentAlpha) {
         // Draw with rotation centered
@@ -1,22 +1,54 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.HazardBroadphase;
 
 public class AsteroidManager {
     private float asteroidTimer = 0;
     private float raidDuration = 0;
     private boolean isRaidActive = false;
-    private Texture asteroidTex;
+    private final TextureRegion asteroidTex;
+    private final RandomXS128 random;
+    private final HazardBroadphase hazards;
+    private float viewBottom = 0; // world y of the bottom of the screen
+    private final Pool<AsteroidActor> asteroidPool = new Pool<AsteroidActor>() {
+        @Override
+        protected AsteroidActor newObject() {
+            return new AsteroidActor(asteroidTex, AsteroidManager.this);
+        }
+    };
+    private final Array<AsteroidActor> live = new Array<>(false, 32);
+    private static final int POOL_SIZE = 16; // even at the fastest rate a rock falls past the screen before a dozen more spawn
 
     private final float CALM_TIME = 3f; // Seconds of peace
     private final float RAID_TIME = 15f; // Seconds of falling rocks
 
-    public AsteroidManager(Texture texture) {
+    /**
+     * @param texture drawn for every asteroid; may be null when nothing is drawn
+     * @param hazards kept up to date as asteroids spawn, move and despawn
+     */
+    public AsteroidManager(TextureRegion texture, RandomXS128 random, HazardBroadphase hazards) {
         this.asteroidTex = texture;
+        this.random = random;
+        this.hazards = hazards;
+        asteroidPool.fill(POOL_SIZE); // so a busy stretch never creates asteroids mid-raid
+    }
+
+    /** Where the screen currently starts; asteroids spawn above it and are cleared once they fall below. */
+    public void setViewBottom(float viewBottom) {
+        this.viewBottom = viewBottom;
+    }
+
+    float getViewBottom() {
+        return viewBottom;
     }
-    public void update(float delta, float playerHeight, Stage stage) {
+
+    public void update(float delta, float playerHeight, Group group) {
         // Only run for the first 3 stages (Stage 1: 0-30m, Stage 2: 30-60m, Stage 3: 60-90m)
         // 9000 pixels is roughly 90 meters in LibGDX world units.
 //        if (playerHeight < 1500 || playerHeight > 9000) {
@@ -34,18 +66,13 @@ public class AsteroidManager {
         raidDuration += delta;
 
         if (isRaidActive) {
-            handleRaid(delta, playerHeight, stage);
+            handleRaid(delta, playerHeight, group);
         } else {
             handleCalm(delta);
         }
     }
 
-    private void handleRaid(float delta, float playerHeight, Stage stage) {
-
-        if (asteroidTimer == 0 && raidDuration < 0.1f) {
-            System.out.println("DEBUG: RAID STARTED! Spawning asteroids...");
-        }
-
+    private void handleRaid(float delta, float playerHeight, Group group) {
         asteroidTimer += delta;
 
         // --- DYNAMIC DIFFICULTY ---
@@ -60,7 +87,7 @@ public class AsteroidManager {
 
         // Time to drop a rock?
         if (asteroidTimer >= spawnInterval) {
-            spawnAsteroid(stage);
+            spawnAsteroid(group);
             asteroidTimer = 0;
         }
 
@@ -80,19 +107,30 @@ public class AsteroidManager {
         }
     }
 
-    private void spawnAsteroid(Stage stage) {
+    private void spawnAsteroid(Group group) {
         // Spawn mostly on the right side (from 400 to 1000px)
         // Spawning at 800+ means they slide into view from the side!
-        float randomX = MathUtils.random(400, 1000);
-
-        float cameraY = stage.getCamera().position.y;
-        float screenHeight = stage.getViewport().getWorldHeight();
+        float randomX = 400 + random.nextInt(601);
 
         // Spawn a bit higher up to give them room to slide in
-        float spawnY = cameraY + (screenHeight / 2f) + 200f;
+        float spawnY = viewBottom + WorldManager.CHUNK_HEIGHT + 200f;
+
+        AsteroidActor asteroid = asteroidPool.obtain();
+        asteroid.init(randomX, spawnY, -150f - random.nextFloat() * 100f, 300f + random.nextFloat() * 200f);
+        group.addActor(asteroid);
+        live.add(asteroid);
+        hazards.add(asteroid.hazardEntry);
+    }
 
-        AsteroidActor asteroid = new AsteroidActor(asteroidTex, randomX, spawnY);
-        stage.addActor(asteroid);
+    void moved(AsteroidActor asteroid) {
+        hazards.update(asteroid.hazardEntry);
+    }
+
+    void despawn(AsteroidActor asteroid) {
+        hazards.remove(asteroid.hazardEntry);
+        live.removeValue(asteroid, true);
+        asteroid.remove();
+        asteroidPool.free(asteroid);
     }
 
     // --- GETTERS ---
@@ -100,4 +138,9 @@ public class AsteroidManager {
     public boolean isRaidActive() {
         return isRaidActive;
     }
+
+    /** Asteroids currently on the stage. Read-only: use {@link AsteroidActor#despawn()} to remove one. */
+    public Array<AsteroidActor> getLive() {
+        return live;
+    }
 }
@@ -0,0 +1,15 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Anything the player can run into. Implementations keep their collision shape in a field and
+ * refresh it in place on each call, so collision checks never allocate.
+ */
+public interface Collidable {
+    /** True if this entity's collision shape, swept along its last move, overlaps {@code rect}. */
+    boolean overlaps(Rectangle rect);
+
+    /** Writes a box covering everything the collision shape touched during its last move into {@code out}. */
+    void getSweptBounds(Rectangle out);
+}
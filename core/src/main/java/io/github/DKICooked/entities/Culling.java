@@ -0,0 +1,19 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+
+/** Visibility tests against the culling area GameScreen sets on the simulation's actor group. */
+final class Culling {
+    private Culling() {}
+
+    /** True if {@code actor} lies entirely outside its parent's culling area, so the stage will not draw it. */
+    static boolean isCulled(Actor actor) {
+        Group parent = actor.getParent();
+        Rectangle view = parent == null ? null : parent.getCullingArea();
+        if (view == null) return false;
+        return actor.getX() > view.x + view.width || actor.getX() + actor.getWidth() < view.x
+            || actor.getY() > view.y + view.height || actor.getY() + actor.getHeight() < view.y;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import io.github.DKICooked.assets.Assets;
+
+/**
+ * The in-game sprites, packed into one page by the core module's {@code packTextures} Gradle task.
+ * Regions are named after their source file without the extension ("asteroid", "aidle", "ufoH1").
+ * The atlas itself is resident in {@link Assets}; disposing this only drops the holder's reference.
+ */
+public class GameAtlas implements Disposable {
+    public static final String PATH = "atlas/game.atlas";
+
+    private final Assets assets;
+    private final TextureAtlas atlas;
+
+    public GameAtlas(Assets assets) {
+        this.assets = assets;
+        this.atlas = assets.acquire(PATH, TextureAtlas.class);
+    }
+
+    /** Looks up a region by name, failing loudly if the sprite was left out of the atlas. */
+    public TextureRegion region(String name) {
+        TextureRegion region = atlas.findRegion(name);
+        if (region == null) throw new GdxRuntimeException("No region '" + name + "' in " + PATH);
+        return region;
+    }
+
+    @Override
+    public void dispose() {
+        assets.release(PATH);
+    }
+}
@@ -3,6 +3,7 @@ package io.github.DKICooked.entities;
 public class LBScore {
     public String name = "---";
     public int score = 0;
+    public String character = ""; // empty for scores saved before runs were kept per character
 
     // LibGDX Json needs an empty constructor
     public LBScore() {}
@@ -11,4 +12,9 @@ public class LBScore {
         this.name = name;
         this.score = score;
     }
+
+    public LBScore(String name, int score, String character) {
+        this(name, score);
+        this.character = character;
+    }
 }
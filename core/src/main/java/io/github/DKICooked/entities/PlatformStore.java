@@ -0,0 +1,150 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays storage for every generated platform.
+ * A platform is just an index into the parallel arrays below; chunks own contiguous index ranges,
+ * so the physics and render loops walk plain float arrays instead of chasing object references.
+ * Generators fill small stores with {@link #add}; the world store takes them whole via {@link #allocate}.
+ */
+public class PlatformStore {
+    public static final byte SLAB = 0;
+    public static final byte WALL = 1;
+    public static final byte GROUND = 2;
+
+    public static final byte NO_POWER_UP = 0; // otherwise PowerUpActor.Type ordinal + 1
+    public static final float DEFAULT_THICKNESS = 10f;
+    public static final int BLOCK_SIZE = 64; // slots per chunk allocation, comfortably above a chunk's platform count
+
+    private static final float WALL_VISUAL_WIDTH = 16f;
+    private static final float DETECTION_BUFFER = 2f; // Makes landing on walls slightly more forgiving
+    private static final PowerUpActor.Type[] POWER_UP_TYPES = PowerUpActor.Type.values();
+
+    public float[] x1, y1, x2, y2, thickness;
+    public byte[] kind, powerUp;
+    public int size = 0; // slots in use, including released blocks waiting for reuse
+
+    private final IntMap<IntArray> freeBlocks = new IntMap<>(); // block count -> starts of released ranges
+
+    public PlatformStore() {
+        this(64);
+    }
+
+    public PlatformStore(int capacity) {
+        x1 = new float[capacity];
+        y1 = new float[capacity];
+        x2 = new float[capacity];
+        y2 = new float[capacity];
+        thickness = new float[capacity];
+        kind = new byte[capacity];
+        powerUp = new byte[capacity];
+    }
+
+    /** Appends a platform and returns its index. */
+    public int add(float x1, float y1, float x2, float y2, float thickness, byte kind) {
+        if (size == this.x1.length) grow(Math.max(8, size * 2));
+        int i = size++;
+        this.x1[i] = x1;
+        this.y1[i] = y1;
+        this.x2[i] = x2;
+        this.y2[i] = y2;
+        this.thickness[i] = thickness;
+        this.kind[i] = kind;
+        this.powerUp[i] = NO_POWER_UP;
+        return i;
+    }
+
+    /**
+     * Copies every platform in {@code other} into a block of whole {@link #BLOCK_SIZE} slots and
+     * returns the index of the first one. Blocks handed back through {@link #release} are reused first,
+     * so a world that evicts old chunks stops growing once it reaches its working set.
+     */
+    public int allocate(PlatformStore other) {
+        int blocks = blocksFor(other.size);
+        int start;
+        IntArray free = freeBlocks.get(blocks);
+        if (free != null && free.size > 0) {
+            start = free.pop();
+        } else {
+            start = size;
+            int needed = size + blocks * BLOCK_SIZE;
+            if (needed > x1.length) grow(Math.max(needed, size * 2));
+            size = needed;
+        }
+
+        System.arraycopy(other.x1, 0, x1, start, other.size);
+        System.arraycopy(other.y1, 0, y1, start, other.size);
+        System.arraycopy(other.x2, 0, x2, start, other.size);
+        System.arraycopy(other.y2, 0, y2, start, other.size);
+        System.arraycopy(other.thickness, 0, thickness, start, other.size);
+        System.arraycopy(other.kind, 0, kind, start, other.size);
+        System.arraycopy(other.powerUp, 0, powerUp, start, other.size);
+        return start;
+    }
+
+    /** Returns the block that {@link #allocate} handed out for {@code count} platforms at {@code start}. */
+    public void release(int start, int count) {
+        int blocks = blocksFor(count);
+        IntArray free = freeBlocks.get(blocks);
+        if (free == null) {
+            free = new IntArray();
+            freeBlocks.put(blocks, free);
+        }
+        free.add(start);
+    }
+
+    private static int blocksFor(int count) {
+        return Math.max(1, (count + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    public float getSurfaceY(int i, float x) {
+        if (kind[i] == WALL) {
+            float half = (WALL_VISUAL_WIDTH / 2f) + DETECTION_BUFFER;
+            if (x >= x1[i] - half && x <= x1[i] + half) {
+                return Math.max(y1[i], y2[i]);
+            }
+        } else {
+            // Horizontal Platform
+            if (x >= Math.min(x1[i], x2[i]) && x <= Math.max(x1[i], x2[i])) {
+                return y1[i];
+            }
+        }
+        return -1;
+    }
+
+    public float top(int i) {
+        return Math.max(y1[i], y2[i]);
+    }
+
+    public float bottom(int i) {
+        return Math.min(y1[i], y2[i]) - thickness[i];
+    }
+
+    public PowerUpActor.Type getPowerUp(int i) {
+        byte code = powerUp[i];
+        return code == NO_POWER_UP ? null : POWER_UP_TYPES[code - 1];
+    }
+
+    public void setPowerUp(int i, PowerUpActor.Type type) {
+        powerUp[i] = type == null ? NO_POWER_UP : (byte) (type.ordinal() + 1);
+    }
+
+    public void clear() {
+        size = 0;
+        freeBlocks.clear();
+    }
+
+    private void grow(int capacity) {
+        x1 = Arrays.copyOf(x1, capacity);
+        y1 = Arrays.copyOf(y1, capacity);
+        x2 = Arrays.copyOf(x2, capacity);
+        y2 = Arrays.copyOf(y2, capacity);
+        thickness = Arrays.copyOf(thickness, capacity);
+        kind = Arrays.copyOf(kind, capacity);
+        powerUp = Arrays.copyOf(powerUp, capacity);
+    }
+}
@@ -1,36 +1,151 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import io.github.DKICooked.gameLogic.WorldManager;
 
-public class PlatformTiles {
-    private Texture tileTexture;
-    private float tileSize = 16f;
+/**
+ * Platform geometry never changes once a chunk is generated, so each active chunk's tile quads are
+ * baked once into a {@link SpriteCache} slot and drawn from there, one cached draw per chunk.
+ * Slots are reserved at a fixed size and recycled when their chunk leaves the active window,
+ * so the cache's vertex buffer stops growing once it has enough slots for the window.
+ * Only the chunks overlapping the camera's view are drawn.
+ */
+public class PlatformTiles implements Disposable {
+    private static final int SLOT_TILES = 256; // slot sizes are multiples of this; a chunk is usually well under
+    private static final int CACHE_TILES = 8191; // SpriteCache's hard limit
 
-    public  PlatformTiles (Texture tileTexture) {
-       this.tileTexture = tileTexture;
+    private final TextureRegion tileTexture;
+    private final float tileSize = 16f;
+    private final SpriteCache cache = new SpriteCache(CACHE_TILES, true);
+    private final IntMap<Slot> baked = new IntMap<>(); // chunk index -> slot holding its tiles
+    private final Array<Slot> freeSlots = new Array<>(false, 4);
+    private final IntArray stale = new IntArray();
+    private int reservedTiles = 0;
+
+    public PlatformTiles(TextureRegion tileTexture) {
+        this.tileTexture = tileTexture;
+    }
+
+    /** Bakes chunks that entered the world's active window and recycles the slots of those that left it. */
+    public void sync(WorldManager world) {
+        int current = world.getCurrentChunk();
+
+        stale.clear();
+        for (IntMap.Entry<Slot> entry : baked) {
+            if (entry.key < current - 1 || entry.key > current + 1) stale.add(entry.key);
+        }
+        for (int i = 0; i < stale.size; i++) {
+            freeSlots.add(baked.remove(stale.get(i)));
+        }
+
+        for (int chunk = current - 1; chunk <= current + 1; chunk++) {
+            if (baked.containsKey(chunk)) continue;
+            int start = world.getChunkStart(chunk);
+            if (start < 0) continue;
+            bake(chunk, world.getPlatformStore(), start, world.getChunkEnd(chunk));
+        }
+    }
+
+    private void bake(int chunk, PlatformStore store, int start, int end) {
+        int tiles = 0;
+        for (int p = start; p < end; p++) tiles += tileCount(store, p);
+
+        Slot slot = takeSlot(tiles);
+        slot.bottom = Float.MAX_VALUE;
+        slot.top = -Float.MAX_VALUE;
+        cache.beginCache(slot.id);
+        for (int p = start; p < end; p++) {
+            addTiles(store, p);
+            // Walls can reach into the next chunk, so bound the tiles rather than the chunk
+            slot.bottom = Math.min(slot.bottom, store.bottom(p));
+            slot.top = Math.max(slot.top, store.top(p));
+        }
+        cache.endCache();
+        baked.put(chunk, slot);
+    }
+
+    /** Smallest free slot that fits, or a fresh one reserved at the end of the cache. */
+    private Slot takeSlot(int tiles) {
+        Slot best = null;
+        for (Slot slot : freeSlots) {
+            if (slot.capacity >= tiles && (best == null || slot.capacity < best.capacity)) best = slot;
+        }
+        if (best != null) {
+            freeSlots.removeValue(best, true);
+            return best;
+        }
+
+        int capacity = Math.max(1, (tiles + SLOT_TILES - 1) / SLOT_TILES) * SLOT_TILES;
+        if (reservedTiles + capacity > CACHE_TILES) {
+            throw new GdxRuntimeException("Platform tile cache is full: " + reservedTiles + " tiles reserved, " + capacity + " more needed");
+        }
+        // A redefined cache may hold up to as many sprites as it was created with, so fill it to capacity once
+        cache.beginCache();
+        for (int i = 0; i < capacity; i++) cache.add(tileTexture, 0, 0, 0, 0);
+        Slot slot = new Slot(cache.endCache(), capacity);
+        reservedTiles += capacity;
+        return slot;
+    }
+
+    private int tileCount(PlatformStore store, int p) {
+        if (store.kind[p] != PlatformStore.WALL) {
+            return (int) (Math.abs(store.x2[p] - store.x1[p]) / tileSize);
+        }
+        return (int) (Math.abs(store.y2[p] - store.y1[p]) / tileSize);
     }
 
-    public void render(SpriteBatch batch, Platform platform) {
-        float width = Math.abs(platform.x2 - platform.x1);
-        float height = Math.abs(platform.y2 - platform.y1);
+    private void addTiles(PlatformStore store, int p) {
+        float x1 = store.x1[p], y1 = store.y1[p];
+        float x2 = store.x2[p], y2 = store.y2[p];
+        int numTiles = tileCount(store, p);
 
-        if (width > height) {
-            int numTiles = (int) (width/tileSize);
-            float startX = Math.min(platform.x1, platform.x2);
+        if (store.kind[p] != PlatformStore.WALL) {
+            float thickness = store.thickness[p];
+            float startX = Math.min(x1, x2);
 
             for (int i = 0; i < numTiles; i++) {
-                batch.draw(tileTexture, startX + (i * tileSize), platform.y1 - platform.thickness, tileSize, platform.thickness);
+                cache.add(tileTexture, startX + (i * tileSize), y1 - thickness, tileSize, thickness);
             }
         } else {
             // Vertical Wall
-            int numTiles = (int) (height / tileSize);
-            float startY = Math.min(platform.y1, platform.y2);
+            float startY = Math.min(y1, y2);
             float wallThickness = 16f;
 
             for (int i = 0; i < numTiles; i++) {
-                batch.draw(tileTexture, platform.x1 - (wallThickness / 2), startY + (i * tileSize), wallThickness, tileSize);
+                cache.add(tileTexture, x1 - (wallThickness / 2), startY + (i * tileSize), wallThickness, tileSize);
             }
         }
     }
+
+    /** Draws the baked chunks whose tiles overlap {@code view} vertically. */
+    public void render(Matrix4 projection, Rectangle view) {
+        if (baked.size == 0) return;
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        for (Slot slot : baked.values()) {
+            if (slot.top < view.y || slot.bottom > view.y + view.height) continue;
+            cache.draw(slot.id);
+        }
+        cache.end();
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+
+    private static class Slot {
+        final int id;
+        final int capacity;
+        float bottom, top; // world-space extent of the tiles currently baked in
+        Slot(int id, int capacity) { this.id = id; this.capacity = capacity; }
+    }
 }
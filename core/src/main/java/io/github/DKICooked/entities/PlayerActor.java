@@ -2,22 +2,24 @@ package io.github.DKICooked.entities;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.utils.Array;
-import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.gameLogic.WorldManager;
 import io.github.DKICooked.gameLogic.physics.PhysicsBody;
 import io.github.DKICooked.gameLogic.physics.PlayerPhysicsProcessor;
+import io.github.DKICooked.gameLogic.physics.Ticked;
+import io.github.DKICooked.gameLogic.physics.TickedPosition;
+import io.github.DKICooked.gameLogic.sim.SimulationListener;
 
 import static io.github.DKICooked.entities.PowerUpActor.Type.GHOST;
 
-public class PlayerActor extends Actor {
+public class PlayerActor extends Actor implements Ticked {
     private final PhysicsBody body = new PhysicsBody(2000f, 300f, 1300f, -1800f);
     private final PlayerPhysicsProcessor physicsProcessor;
-    private Array<Platform> platforms = new Array<>();
-    private float accumulator = 0f;
-    private static final float STEP = 1f / 180f;
+    private WorldManager world;
+    private final TickedPosition position = new TickedPosition();
     private boolean dead = false;
     private Rectangle collisionRect = new Rectangle();
     private float currentMoveDirection = 0;
+    private boolean jumpHeld, jumpPressed;
 
     //for stats
     private float jumpForce;      // How high they launch
@@ -31,12 +33,15 @@ public class PlayerActor extends Actor {
     private boolean hasUfo = false;
     private float powerUpTimer = 0;
 
-    public PlayerActor(SoundPlayer soundPlayer) {
-        this.physicsProcessor = new PlayerPhysicsProcessor(this, body, soundPlayer);
+    public PlayerActor(SimulationListener listener) {
+        this.physicsProcessor = new PlayerPhysicsProcessor(this, body, listener);
     }
 
-    public void handleHorizontalMovement(float direction, float delta) {
+    /** Input for the next tick; {@code jumpPressed} is only true on the tick jump goes down. */
+    public void setInput(float direction, boolean jumpHeld, boolean jumpPressed) {
         this.currentMoveDirection = direction;
+        this.jumpHeld = jumpHeld;
+        this.jumpPressed = jumpPressed;
     }
 
     public void activePowerUp(PowerUpActor.Type type){
@@ -137,22 +142,28 @@ public class PlayerActor extends Actor {
     }
 
     @Override
-    public void act(float delta) {
-        super.act(delta);
-        accumulator += delta;
-        while (accumulator >= STEP) {
-            physicsProcessor.update(STEP, platforms, currentMoveDirection);
-            accumulator -= STEP;
-        }
+    public void beginTicks() {
+        position.begin(this);
+    }
+
+    @Override
+    public void tick(float dt) {
+        position.beforeTick(this);
+        physicsProcessor.update(dt, world, currentMoveDirection, jumpHeld, jumpPressed);
 
         if (powerUpTimer > 0) {
-            powerUpTimer -= delta;
+            powerUpTimer -= dt;
             if (powerUpTimer <= 0) {
                 isGhost = hasShield = hasUfo = false;
             }
         }
     }
 
+    @Override
+    public void endTicks(float alpha) {
+        position.end(this, alpha);
+    }
+
     // Delegate getters to the processor
     public void setDead(boolean dead) { this.dead = dead; }
     public boolean isDead() { return dead; }
@@ -162,7 +173,7 @@ public class PlayerActor extends Actor {
     public boolean isFacingRight() { return physicsProcessor.facingRight; }
     public PhysicsBody getBody() { return body; }
 
-    public void setPlatforms(Array<Platform> platforms) {
-        this.platforms = platforms;
+    public void setWorld(WorldManager world) {
+        this.world = world;
     }
 }
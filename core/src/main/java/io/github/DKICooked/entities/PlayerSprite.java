@@ -1,14 +1,12 @@
 package io.github.DKICooked.entities;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 
 public class PlayerSprite {
-    private final Array<Texture> textures = new Array<>();
+    private final GameAtlas atlas;
     private float stateTime;
 
     private final TextureRegion idleRegion;
@@ -17,29 +15,30 @@ public class PlayerSprite {
     private final TextureRegion deathRegion;
     private final Animation<TextureRegion> walkAnim;
 
-    public PlayerSprite(String selection) {
+    public PlayerSprite(String selection, GameAtlas atlas) {
+        this.atlas = atlas;
+
         // 1. Get the first letter: "Alaine" -> "a", "Jerick" -> "j", "Timothy" -> "t"
         String p = selection.toLowerCase().substring(0, 1);
 
-        // 2. Load the specific textures for that character
-        idleRegion = new TextureRegion(loadTexture(p + "idle.png"));
-        jumpRegion = new TextureRegion(loadTexture(p + "J.png"));
-        chargeReg = new TextureRegion(loadTexture(p + "LC.png"));
-        deathRegion = new TextureRegion(loadTexture(p + "dead.png"));
+        // 2. Look up the specific frames for that character
+        idleRegion = loadRegion(p + "idle");
+        jumpRegion = loadRegion(p + "J");
+        chargeReg = loadRegion(p + "LC");
+        deathRegion = loadRegion(p + "dead");
 
         walkAnim = new Animation<>(0.1f,
-            new TextureRegion(loadTexture(p + "W1.png")),
-            new TextureRegion(loadTexture(p + "W2.png")),
-            new TextureRegion(loadTexture(p + "W3.png"))
+            loadRegion(p + "W1"),
+            loadRegion(p + "W2"),
+            loadRegion(p + "W3")
         );
 
         stateTime = 0f;
     }
 
-    private Texture loadTexture(String path) {
-        Texture t = new Texture(Gdx.files.internal(path));
-        textures.add(t);
-        return t;
+    private TextureRegion loadRegion(String name) {
+        // Own copy: draw() flips the frame in place, and the atlas region is shared
+        return new TextureRegion(atlas.region(name));
     }
 
     public void draw(Batch batch, PlayerActor player) {
@@ -82,11 +81,4 @@ public class PlayerSprite {
             player.getRotation()
         );
     }
-
-    public void dispose() {
-        for (Texture t : textures) {
-            t.dispose();
-        }
-        textures.clear();
-    }
 }
@@ -1,32 +1,38 @@
 package io.github.DKICooked.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Pool;
 
-public class PowerUpActor extends Actor {
+public class PowerUpActor extends Actor implements Pool.Poolable, Collidable {
     public enum Type { GHOST, UFO_RIDE, SHIELD }
-    private  final Type type;
-    private final Texture region;
+    private final PowerUpManager manager;
+    private Type type;
+    private TextureRegion region;
+    private final Rectangle bounds = new Rectangle();
 
-    public PowerUpActor(Type type, Texture  tex, float x, float y){
-        this.type = type;
-        this.region = tex;
-        setPosition(x, y);
+    public PowerUpActor(PowerUpManager manager){
+        this.manager = manager;
         setSize(42, 42);
 
         this.setOrigin(Align.center);
+    }
+
+    /** Sets up a (possibly recycled) power-up and starts its idle bob. */
+    public void init(Type type, TextureRegion tex, float x, float y) {
+        this.type = type;
+        this.region = tex;
+        setPosition(x, y);
 
         this.addAction(Actions.forever(Actions.sequence(
             Actions.moveBy(0, 15, 1.2f, Interpolation.sine), // Move up 15 pixels over 1.2s
             Actions.moveBy(0, -15, 1.2f, Interpolation.sine) // Move back down
         )));
-
     }
 
     public Type getType() { return type; }
@@ -36,6 +42,29 @@ public class PowerUpActor extends Actor {
         batch.draw(region, getX(), getY(), getWidth(), getHeight());
     }
     public Rectangle getBounds() {
-        return new Rectangle(getX(), getY(), getWidth(), getHeight());
+        return bounds.set(getX(), getY(), getWidth(), getHeight());
+    }
+
+    @Override
+    public boolean overlaps(Rectangle rect) {
+        return getBounds().overlaps(rect);
+    }
+
+    @Override
+    public void getSweptBounds(Rectangle out) {
+        out.set(getBounds()); // Bobs a few pixels a second, nothing to sweep
+    }
+
+    /** Takes the power-up off the stage and hands it back to its manager. */
+    public void despawn() {
+        manager.despawn(this);
+    }
+
+    @Override
+    public void reset() {
+        clearActions();
+        setScale(1);
+        type = null;
+        region = null;
     }
 }
@@ -0,0 +1,48 @@
+package io.github.DKICooked.entities;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+public class PowerUpManager {
+    private final TextureRegion ghostTex;
+    private final TextureRegion ufoTex;
+    private final Pool<PowerUpActor> powerUpPool = new Pool<PowerUpActor>() {
+        @Override
+        protected PowerUpActor newObject() {
+            return new PowerUpActor(PowerUpManager.this);
+        }
+    };
+    private final Array<PowerUpActor> live = new Array<>(false, 8);
+
+    /** Textures may be null when nothing is drawn. */
+    public PowerUpManager(TextureRegion ghostTex, TextureRegion ufoTex) {
+        this.ghostTex = ghostTex;
+        this.ufoTex = ufoTex;
+    }
+
+    /** Places a pooled power-up of the given type in {@code group}. */
+    public PowerUpActor spawn(PowerUpActor.Type type, float x, float y, Group group) {
+        PowerUpActor pUp = powerUpPool.obtain();
+        pUp.init(type, textureFor(type), x, y);
+        group.addActor(pUp);
+        live.add(pUp);
+        return pUp;
+    }
+
+    /** Power-ups currently on the stage. Read-only: use {@link PowerUpActor#despawn()} to remove one. */
+    public Array<PowerUpActor> getLive() {
+        return live;
+    }
+
+    void despawn(PowerUpActor pUp) {
+        live.removeValue(pUp, true);
+        pUp.remove();
+        powerUpPool.free(pUp);
+    }
+
+    private TextureRegion textureFor(PowerUpActor.Type type) {
+        return (type == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
+    }
+}
@@ -4,31 +4,56 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Pool;
+import io.github.DKICooked.gameLogic.physics.HazardBroadphase;
+import io.github.DKICooked.gameLogic.physics.Ticked;
+import io.github.DKICooked.gameLogic.physics.TickedPosition;
+
+public class UfoActor extends Actor implements Pool.Poolable, Collidable, Ticked {
+    // ufoH1's size; fixed rather than read off the frame so the hit circle is the same with or without art
+    public static final float WIDTH = 119f;
+    public static final float HEIGHT = 53f;
 
-public class UfoActor extends Actor {
     private final Animation<TextureRegion> animation;
+    private final UfoManager manager;
     private float stateTime = 0;
     private float speed;
     private boolean movingRight;
     private boolean directionSet = false;
+    private final Circle collisionCircle = new Circle();
+    private final TickedPosition position = new TickedPosition();
+    final HazardBroadphase.Entry hazardEntry = new HazardBroadphase.Entry(this);
 
-    public UfoActor(Animation<TextureRegion> anim) {
+    public UfoActor(Animation<TextureRegion> anim, UfoManager manager) {
         this.animation = anim;
+        this.manager = manager;
+        setSize(WIDTH, HEIGHT);
+    }
 
-        // Random speed for variety
-        this.speed = MathUtils.random(300f, 500f);
-
-        // Set size based on the first frame of animation
-        TextureRegion firstFrame = anim.getKeyFrame(0);
-        setSize(firstFrame.getRegionWidth(), firstFrame.getRegionHeight());
+    /** Places a (possibly recycled) UFO at its spawn point; direction is locked on the first tick. */
+    public void init(float x, float y, float speed) {
+        setPosition(x, y);
+        position.reset(this);
+        this.speed = speed;
     }
 
     @Override
     public void act(float delta) {
         super.act(delta);
+        if (Culling.isCulled(this)) return; // Animation only; it picks up where it left off once on screen
         stateTime += delta;
+    }
+
+    @Override
+    public void beginTicks() {
+        position.begin(this);
+    }
+
+    @Override
+    public void tick(float dt) {
+        position.beforeTick(this);
 
         // 1. LOCK DIRECTION: Only check the spawn point once
         if (!directionSet) {
@@ -38,17 +63,36 @@ public class UfoActor extends Actor {
 
         // 2. MOVE: Apply velocity based on the locked direction
         if (movingRight) {
-            setX(getX() + speed * delta);
+            setX(getX() + speed * dt);
         } else {
-            setX(getX() - speed * delta);
+            setX(getX() - speed * dt);
         }
 
         // 3. CLEANUP: Remove if it leaves the screen area
         if (getX() > 1000 || getX() < -200) {
-            this.remove();
+            despawn();
+        } else {
+            manager.moved(this);
         }
     }
 
+    @Override
+    public void endTicks(float alpha) {
+        position.end(this, alpha);
+    }
+
+    /** Takes the UFO off the stage and hands it back to its manager. */
+    public void despawn() {
+        manager.despawn(this);
+    }
+
+    @Override
+    public void reset() {
+        clearActions();
+        stateTime = 0;
+        directionSet = false;
+    }
+
     @Override
     public void draw(Batch batch, float parentAlpha) {
         TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
@@ -67,8 +111,28 @@ public class UfoActor extends Actor {
 
     public Circle getCollisionCircle() {
         // Returns a circle centered on the UFO for hit detection
-        return new Circle(getX() + getWidth() / 2f,
+        collisionCircle.set(getX() + getWidth() / 2f,
             getY() + getHeight() / 2f,
             getHeight() * 0.4f);
+        return collisionCircle;
+    }
+
+    @Override
+    public boolean overlaps(Rectangle rect) {
+        Circle c = getCollisionCircle();
+        return HazardBroadphase.sweptCircleOverlaps(prevCenterX(), prevCenterY(), c.x, c.y, c.radius, rect);
+    }
+
+    @Override
+    public void getSweptBounds(Rectangle out) {
+        Circle c = getCollisionCircle();
+        float prevX = prevCenterX(), prevY = prevCenterY();
+        out.set(Math.min(prevX, c.x) - c.radius, Math.min(prevY, c.y) - c.radius,
+            Math.abs(c.x - prevX) + c.radius * 2f,
+            Math.abs(c.y - prevY) + c.radius * 2f);
     }
+
+    // Circle center before the latest tick, for swept collision
+    private float prevCenterX() { return position.prevX + getWidth() / 2f; }
+    private float prevCenterY() { return position.prevY + getHeight() / 2f; }
 }
@@ -2,36 +2,58 @@ package io.github.DKICooked.entities;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import io.github.DKICooked.gameLogic.physics.HazardBroadphase;
 
 public class UfoManager {
     private float spawnTimer = 0f;
     private final float SPAWN_INTERVAL = 4.0f;
+    private static final int MAX_WAVE = 10; // a wave has crossed the screen before the next one comes
     private final Animation<TextureRegion> ufoAnim;
+    private final RandomXS128 random;
+    private final HazardBroadphase hazards;
     private boolean active = false; // The new flag
+    private final Pool<UfoActor> ufoPool = new Pool<UfoActor>() {
+        @Override
+        protected UfoActor newObject() {
+            return new UfoActor(ufoAnim, UfoManager.this);
+        }
+    };
+    private final Array<UfoActor> live = new Array<>(false, 16);
 
-    public UfoManager(Animation<TextureRegion> ufoAnim) {
+    /**
+     * @param ufoAnim drawn for every UFO; may be null when nothing is drawn
+     * @param hazards kept up to date as UFOs spawn, move and despawn
+     */
+    public UfoManager(Animation<TextureRegion> ufoAnim, RandomXS128 random, HazardBroadphase hazards) {
         this.ufoAnim = ufoAnim;
+        this.random = random;
+        this.hazards = hazards;
+        ufoPool.fill(MAX_WAVE); // so the biggest wave never creates UFOs mid-raid
     }
 
-    public void update(float delta, Stage stage) {
+    /** @param viewBottom world y of the bottom of the screen; UFOs cross somewhere in the screen above it */
+    public void update(float delta, float viewBottom, Group group) {
         active = true; // If update is being called, the raid is active
         spawnTimer += delta;
 
         if (spawnTimer >= SPAWN_INTERVAL) {
-            int count = MathUtils.random(1, 10);
-            float cameraY = stage.getCamera().position.y;
-            float screenBottom = cameraY - 300f;
+            int count = 1 + random.nextInt(MAX_WAVE);
 
             for (int i = 0; i < count; i++) {
-                UfoActor ufo = new UfoActor(ufoAnim);
-                boolean spawnLeft = MathUtils.randomBoolean();
+                UfoActor ufo = ufoPool.obtain();
+                boolean spawnLeft = random.nextBoolean();
                 float spawnX = spawnLeft ? -100f : 900f;
-                float spawnY = screenBottom + MathUtils.random(50f, 550f);
+                float spawnY = viewBottom + 50f + random.nextFloat() * 500f;
 
-                ufo.setPosition(spawnX, spawnY);
-                stage.addActor(ufo);
+                // Random speed for variety
+                ufo.init(spawnX, spawnY, 300f + random.nextFloat() * 200f);
+                group.addActor(ufo);
+                live.add(ufo);
+                hazards.add(ufo.hazardEntry);
             }
             spawnTimer = 0;
         }
@@ -45,4 +67,20 @@ public class UfoManager {
     public boolean isRaidActive() {
         return active;
     }
+
+    /** UFOs currently on the stage. Read-only: use {@link UfoActor#despawn()} to remove one. */
+    public Array<UfoActor> getLive() {
+        return live;
+    }
+
+    void moved(UfoActor ufo) {
+        hazards.update(ufo.hazardEntry);
+    }
+
+    void despawn(UfoActor ufo) {
+        hazards.remove(ufo.hazardEntry);
+        live.removeValue(ufo, true);
+        ufo.remove();
+        ufoPool.free(ufo);
+    }
 }
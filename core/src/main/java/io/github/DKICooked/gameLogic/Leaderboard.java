@@ -0,0 +1,227 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import io.github.DKICooked.entities.LBScore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Every run ever submitted, ranked all-time and per character by a {@link ScoreIndex} each.
+ * On disk it is an append-only binary file: a header, then records that are only ever added to the end.
+ * A character record names the next character id; a run record holds that id, the score as a
+ * zigzag varint and the name as length-prefixed UTF-8, so a typical run costs about 7 bytes.
+ * New records wait in memory until {@link SaveManager} takes them with {@link #takePending()} and
+ * appends them. A crash mid-append can only leave a partial last record, which {@link #read} drops.
+ */
+public class Leaderboard {
+    private static final int MAGIC = 0x444B4C42; // "DKLB"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+    private static final byte CHARACTER_RECORD = 0;
+    private static final byte RUN_RECORD = 1;
+    private static final int MAX_CHARACTERS = 256; // ids are one byte
+
+    private final ScoreIndex all = new ScoreIndex();
+    private final ObjectMap<String, ScoreIndex> byCharacter = new ObjectMap<>();
+    private final Array<String> characters = new Array<>();
+    private final ObjectIntMap<String> characterIds = new ObjectIntMap<>();
+    private int runs = 0;
+    private long storedLength = 0; // bytes of the file that hold whole records
+    private byte[] pending = new byte[64];
+    private int pendingSize = 0;
+
+    /** An empty leaderboard whose first write starts a new file. */
+    public Leaderboard() {
+        writeInt(MAGIC);
+        writeByte(VERSION);
+    }
+
+    /**
+     * Loads every record in {@code file}. Anything after the last whole record is left out of
+     * {@link #getStoredLength()} for the caller to cut off; a file that is not a leaderboard at all
+     * counts as empty and is started over.
+     */
+    public static Leaderboard read(FileHandle file) {
+        if (!file.exists()) return new Leaderboard();
+        byte[] bytes = file.readBytes();
+        if (bytes.length < HEADER_SIZE || readInt(bytes, 0) != MAGIC || bytes[4] != VERSION) return new Leaderboard();
+
+        Leaderboard board = new Leaderboard();
+        board.pendingSize = 0; // the header is already on disk
+        Reader in = new Reader(bytes, HEADER_SIZE);
+        long good = HEADER_SIZE;
+        try {
+            while (in.position < bytes.length) {
+                byte type = in.readByte();
+                if (type == CHARACTER_RECORD) {
+                    board.defineCharacter(in.readString());
+                } else if (type == RUN_RECORD) {
+                    int id = in.readByte() & 0xFF;
+                    int score = in.readVarint();
+                    String name = in.readString();
+                    if (id >= board.characters.size) break;
+                    board.index(name, score, board.characters.get(id));
+                } else {
+                    break;
+                }
+                good = in.position;
+            }
+        } catch (ArrayIndexOutOfBoundsException torn) {
+            // The last record was cut short; everything before it stands
+        }
+        board.storedLength = good;
+        return board;
+    }
+
+    /** Adds a run and returns its entry; it reaches the disk at the next {@link SaveManager#flush()}. */
+    public LBScore add(String name, int score, String character) {
+        if (!characterIds.containsKey(character)) {
+            if (characters.size == MAX_CHARACTERS) throw new IllegalStateException("Too many characters");
+            writeByte(CHARACTER_RECORD);
+            writeString(character);
+            defineCharacter(character);
+        }
+        writeByte(RUN_RECORD);
+        writeByte(characterIds.get(character, 0));
+        writeVarint(score);
+        writeString(name);
+        return index(name, score, character);
+    }
+
+    private void defineCharacter(String character) {
+        characterIds.put(character, characters.size);
+        characters.add(character);
+    }
+
+    private LBScore index(String name, int score, String character) {
+        LBScore entry = new LBScore(name, score, character);
+        all.add(entry, runs);
+        ScoreIndex own = byCharacter.get(character);
+        if (own == null) byCharacter.put(character, own = new ScoreIndex());
+        own.add(entry, runs);
+        runs++;
+        return entry;
+    }
+
+    /** Runs recorded, all-time. */
+    public int size() {
+        return all.size();
+    }
+
+    public int size(String character) {
+        ScoreIndex own = byCharacter.get(character);
+        return own == null ? 0 : own.size();
+    }
+
+    /** The place {@code score} takes all-time, counting from 1; ties share the better place. */
+    public int rankOf(int score) {
+        return all.countAbove(score) + 1;
+    }
+
+    public int rankOf(int score, String character) {
+        ScoreIndex own = byCharacter.get(character);
+        return own == null ? 1 : own.countAbove(score) + 1;
+    }
+
+    /** Whether {@code score} would make the all-time top {@code places}; a tie goes below the earlier runs. */
+    public boolean isHighScore(int score, int places) {
+        return score > 0 && all.countAtOrAbove(score) < places;
+    }
+
+    /** Adds the best {@code count} runs all-time to {@code out}, best first. */
+    public Array<LBScore> top(int count, Array<LBScore> out) {
+        return all.range(0, count, out);
+    }
+
+    public Array<LBScore> top(int count, String character, Array<LBScore> out) {
+        ScoreIndex own = byCharacter.get(character);
+        return own == null ? out : own.range(0, count, out);
+    }
+
+    /** Adds up to {@code count} runs to {@code out}, starting at place {@code rank} (counting from 1). */
+    public Array<LBScore> page(int rank, int count, Array<LBScore> out) {
+        return all.range(rank - 1, count, out);
+    }
+
+    /** Length of the file as loaded, up to the end of its last whole record. */
+    public long getStoredLength() {
+        return storedLength;
+    }
+
+    public boolean hasPending() {
+        return pendingSize > 0;
+    }
+
+    /** Hands over the records added since the last call, to be appended to the file in order. */
+    public byte[] takePending() {
+        byte[] records = Arrays.copyOf(pending, pendingSize);
+        storedLength += pendingSize;
+        pendingSize = 0;
+        return records;
+    }
+
+    private void writeByte(int value) {
+        if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pending.length * 2);
+        pending[pendingSize++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) writeByte(value >>> shift);
+    }
+
+    private void writeVarint(int value) {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        writeByte(zigzag);
+    }
+
+    private void writeString(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 255);
+        writeByte(length);
+        for (int i = 0; i < length; i++) writeByte(bytes[i]);
+    }
+
+    private static int readInt(byte[] bytes, int at) {
+        return (bytes[at] & 0xFF) << 24 | (bytes[at + 1] & 0xFF) << 16 | (bytes[at + 2] & 0xFF) << 8 | (bytes[at + 3] & 0xFF);
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return bytes[position++];
+        }
+
+        int readVarint() {
+            int zigzag = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = readByte();
+                zigzag |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) break;
+            }
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() {
+            int length = readByte() & 0xFF;
+            if (position + length > bytes.length) throw new ArrayIndexOutOfBoundsException(position + length);
+            String text = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return text;
+        }
+    }
+}
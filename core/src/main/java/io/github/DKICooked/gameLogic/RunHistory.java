@@ -0,0 +1,287 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import io.github.DKICooked.gameLogic.sim.DeathCause;
+import io.github.DKICooked.gameLogic.sim.Raid;
+import io.github.DKICooked.gameLogic.sim.Simulation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Everything known about each finished climb, one {@link #RECORD_SIZE}-byte record per run after a
+ * {@link #HEADER_SIZE}-byte header, only ever appended to. New records wait in memory until
+ * {@link SaveManager} appends them. The queries map the file read-only and read just the fields they need
+ * straight out of the mapping, so nothing is parsed or kept on the heap. The mapping is refreshed
+ * when the file has grown, and a query only sees runs the writer has already put on disk.
+ */
+public class RunHistory {
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 64;
+    private static final int MAGIC = 0x444B524C; // "DKRL"
+    private static final short VERSION = 1;
+    private static final int CHARACTER_BYTES = 12;
+    private static final byte GAVE_UP = (byte) DeathCause.GAVE_UP.ordinal();
+
+    // Record layout, big-endian
+    private static final int FINISHED_AT = 0;      // long, epoch millis
+    private static final int SEED = 8;             // long
+    private static final int CHARACTER = 16;       // UTF-8, zero padded
+    private static final int RECORD_HEIGHT = 28;   // int, meters
+    private static final int DEATH_HEIGHT = 32;    // int, meters
+    private static final int HIGHEST_CHUNK = 36;   // int
+    private static final int TICKS = 40;           // int, ticks until the death
+    private static final int TICK = 44;            // float, seconds per tick
+    private static final int CAUSE = 48;           // byte, DeathCause ordinal
+    private static final int DEATH_RAID = 49;      // byte, Raid ordinal
+    private static final int RAIDS_STARTED = 50;   // short
+    private static final int RAIDS_SURVIVED = 52;  // short
+    private static final int PITY_SPAWNS = 54;     // short
+    private static final int SPARE = 56;           // 8 bytes, zero
+
+    private final Path path;
+    private long storedLength;
+    private ByteBuffer pending = ByteBuffer.allocate(RECORD_SIZE * 4);
+    private MappedByteBuffer mapped;
+    private long mappedLength = -1;
+    private int mappedRuns = 0;
+    private final byte[] name = new byte[CHARACTER_BYTES];
+    private final byte[] other = new byte[CHARACTER_BYTES];
+
+    /**
+     * Opens the history in {@code file}, reading only its header. Anything after the last whole record,
+     * or all of a file that is not a run history, is left out of {@link #getStoredLength()} for the caller to cut off.
+     */
+    public RunHistory(FileHandle file) {
+        this.path = file.file().toPath();
+        storedLength = 0;
+        if (file.exists() && file.length() >= HEADER_SIZE && hasHeader()) {
+            storedLength = HEADER_SIZE + (file.length() - HEADER_SIZE) / RECORD_SIZE * RECORD_SIZE;
+        } else {
+            pending.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(0);
+        }
+    }
+
+    private boolean hasHeader() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) { }
+        } catch (IOException e) {
+            return false;
+        }
+        return header.getInt(0) == MAGIC && header.getShort(4) == VERSION && header.getShort(6) == RECORD_SIZE;
+    }
+
+    /** Adds a finished climb; it reaches the disk at the next {@link SaveManager#flush()}. */
+    public void add(Simulation sim, long finishedAt) {
+        if (pending.remaining() < RECORD_SIZE) pending = ByteBuffer.allocate(pending.capacity() * 2).put(pending.flip());
+        int at = pending.position();
+        pending.putLong(at + FINISHED_AT, finishedAt)
+            .putLong(at + SEED, sim.getSeed())
+            .put(at + CHARACTER, encode(sim.getCharacter(), name))
+            .putInt(at + RECORD_HEIGHT, sim.getRecordHeight())
+            .putInt(at + DEATH_HEIGHT, sim.getDeathHeight())
+            .putInt(at + HIGHEST_CHUNK, sim.getHighestChunkReached())
+            .putInt(at + TICKS, (int) Math.min(Integer.MAX_VALUE, sim.getDeathTick()))
+            .putFloat(at + TICK, sim.getTick())
+            .put(at + CAUSE, (byte) sim.getDeathCause().ordinal())
+            .put(at + DEATH_RAID, (byte) sim.getDeathRaid().ordinal())
+            .putShort(at + RAIDS_STARTED, clampShort(sim.getRaidsStarted()))
+            .putShort(at + RAIDS_SURVIVED, clampShort(sim.getRaidsSurvived()))
+            .putShort(at + PITY_SPAWNS, clampShort(sim.getPitySpawns()))
+            .putLong(at + SPARE, 0);
+        pending.position(at + RECORD_SIZE);
+    }
+
+    private static short clampShort(int value) {
+        return (short) Math.min(Short.MAX_VALUE, value);
+    }
+
+    private static byte[] encode(String character, byte[] out) {
+        Arrays.fill(out, (byte) 0);
+        byte[] bytes = character.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, out, 0, Math.min(bytes.length, out.length));
+        return out;
+    }
+
+    /** Length of the file as opened, up to the end of its last whole record, plus everything taken since. */
+    public long getStoredLength() {
+        return storedLength;
+    }
+
+    public boolean hasPending() {
+        return pending.position() > 0;
+    }
+
+    /** Hands over the records added since the last call, to be appended to the file in order. */
+    public byte[] takePending() {
+        byte[] records = Arrays.copyOf(pending.array(), pending.position());
+        storedLength += records.length;
+        pending.clear();
+        return records;
+    }
+
+    /** Runs on disk. */
+    public int size() {
+        refresh();
+        return mappedRuns;
+    }
+
+    /** Average best height in meters of {@code character}'s runs, or 0 if it has none. */
+    public float averageHeight(String character) {
+        refresh();
+        encode(character, name);
+        long total = 0;
+        int runs = 0;
+        for (int r = 0; r < mappedRuns; r++) {
+            int at = HEADER_SIZE + r * RECORD_SIZE;
+            if (!characterIs(at, name)) continue;
+            total += mapped.getInt(at + RECORD_HEIGHT);
+            runs++;
+        }
+        return runs == 0 ? 0 : (float) total / runs;
+    }
+
+    /** Puts every character's average best height in meters into {@code out}, in one pass. */
+    public ObjectFloatMap<String> averageHeights(ObjectFloatMap<String> out) {
+        refresh();
+        Array<byte[]> seen = new Array<>();
+        Array<String> names = new Array<>();
+        long[] totals = new long[4];
+        int[] runs = new int[4];
+        for (int r = 0; r < mappedRuns; r++) {
+            int at = HEADER_SIZE + r * RECORD_SIZE;
+            int index = 0;
+            while (index < seen.size && !characterIs(at, seen.get(index))) index++;
+            if (index == seen.size) {
+                byte[] key = new byte[CHARACTER_BYTES];
+                mapped.get(at + CHARACTER, key);
+                seen.add(key);
+                names.add(decode(key));
+                if (index == totals.length) {
+                    totals = Arrays.copyOf(totals, index * 2);
+                    runs = Arrays.copyOf(runs, index * 2);
+                }
+            }
+            totals[index] += mapped.getInt(at + RECORD_HEIGHT);
+            runs[index]++;
+        }
+        for (int i = 0; i < names.size; i++) out.put(names.get(i), (float) totals[i] / runs[i]);
+        return out;
+    }
+
+    /**
+     * Deaths counted by the raid under way when they happened and by death height, in rows indexed by
+     * {@link Raid#ordinal()} and columns {@code bucketMeters} tall; the last column also takes everything above it.
+     * Climbs the player gave up on did not end in a death and are left out.
+     */
+    public int[][] deathHeatmap(int bucketMeters, int buckets) {
+        if (bucketMeters <= 0 || buckets <= 0) throw new IllegalArgumentException("Empty heatmap");
+        refresh();
+        int[][] counts = new int[Raid.values().length][buckets];
+        for (int r = 0; r < mappedRuns; r++) {
+            int at = HEADER_SIZE + r * RECORD_SIZE;
+            if (mapped.get(at + CAUSE) == GAVE_UP) continue;
+            int raid = mapped.get(at + DEATH_RAID);
+            int bucket = Math.min(buckets - 1, Math.max(0, mapped.getInt(at + DEATH_HEIGHT)) / bucketMeters);
+            if (raid >= 0 && raid < counts.length) counts[raid][bucket]++;
+        }
+        return counts;
+    }
+
+    /** How many runs ended each way, indexed by {@link DeathCause#ordinal()}. */
+    public int[] deathCauses() {
+        refresh();
+        int[] counts = new int[DeathCause.values().length];
+        for (int r = 0; r < mappedRuns; r++) {
+            int cause = mapped.get(HEADER_SIZE + r * RECORD_SIZE + CAUSE);
+            if (cause >= 0 && cause < counts.length) counts[cause]++;
+        }
+        return counts;
+    }
+
+    /** Median time from start to death, or to giving up, in seconds; 0 with no runs. */
+    public float medianDuration() {
+        refresh();
+        int n = mappedRuns;
+        if (n == 0) return 0;
+        float[] seconds = new float[n];
+        for (int r = 0; r < n; r++) {
+            int at = HEADER_SIZE + r * RECORD_SIZE;
+            seconds[r] = mapped.getInt(at + TICKS) * mapped.getFloat(at + TICK);
+        }
+        int middle = n / 2;
+        float upper = select(seconds, middle);
+        if ((n & 1) == 1) return upper;
+        // select leaves everything before the middle no larger than it, so the lower middle is their maximum
+        float lower = seconds[0];
+        for (int i = 1; i < middle; i++) lower = Math.max(lower, seconds[i]);
+        return (lower + upper) / 2f;
+    }
+
+    /** Rearranges {@code values} so the k-th smallest sits at {@code k}, smaller ones before it; expected O(n). */
+    private static float select(float[] values, int k) {
+        int left = 0, right = values.length - 1;
+        while (left < right) {
+            float pivot = values[(left + right) >>> 1];
+            int i = left, j = right;
+            while (i <= j) {
+                while (values[i] < pivot) i++;
+                while (values[j] > pivot) j--;
+                if (i <= j) {
+                    float swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) right = j;
+            else if (k >= i) left = i;
+            else break;
+        }
+        return values[k];
+    }
+
+    private boolean characterIs(int at, byte[] encoded) {
+        mapped.get(at + CHARACTER, other);
+        return Arrays.equals(other, encoded);
+    }
+
+    private static String decode(byte[] encoded) {
+        int length = 0;
+        while (length < encoded.length && encoded[length] != 0) length++;
+        return new String(encoded, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /** Maps the file again if it has grown since the last query. */
+    private void refresh() {
+        long length;
+        try {
+            length = Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read " + path, e);
+        }
+        if (length == mappedLength) return;
+        mappedLength = length;
+        mappedRuns = length < HEADER_SIZE ? 0 : (int) ((length - HEADER_SIZE) / RECORD_SIZE);
+        if (mappedRuns == 0) {
+            mapped = null;
+            return;
+        }
+        // The mapping stays valid after the channel closes, so no file handle is held between queries
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE + (long) mappedRuns * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not map " + path, e);
+        }
+    }
+}
@@ -4,30 +4,15 @@ import io.github.DKICooked.entities.LBScore;
 import com.badlogic.gdx.utils.Array;
 
 public class SaveData {
-    // Ensure the array is initialized to prevent NullPointerExceptions
+    // The old top ten; SaveManager moves it into the Leaderboard once and leaves it empty
     public Array<LBScore> leaderBoard = new Array<>();
+    private transient boolean dirty; // changed since SaveManager last queued a write; transient keeps it out of the file
 
-    public boolean isHighScore(int score) {
-        if (score <= 0) return false; // Optional: don't count 0 scores
-        if (leaderBoard.size < 10) return true;
-        return score > leaderBoard.get(leaderBoard.size - 1).score;
+    /** Flags a change made directly to the fields so the next {@link SaveManager#flush()} writes it. */
+    public void markDirty() {
+        dirty = true;
     }
 
-    public void addScore(String name, int score) {
-        LBScore newEntry = new LBScore(name, score);
-
-        // 1. Find the first index where the existing score is SMALLER than the new one
-        int insertIndex = 0;
-        while (insertIndex < leaderBoard.size && leaderBoard.get(insertIndex).score >= score) {
-            insertIndex++;
-        }
-
-        // 2. Insert it (LibGDX Array.insert handles the "shifting" for you)
-        leaderBoard.insert(insertIndex, newEntry);
-
-        // 3. Keep it to a Top 10
-        if (leaderBoard.size > 10) {
-            leaderBoard.truncate(10);
-        }
-    }
+    boolean isDirty() { return dirty; }
+    void clearDirty() { dirty = false; }
 }
@@ -2,36 +2,188 @@ package io.github.DKICooked.gameLogic;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
-import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import io.github.DKICooked.entities.LBScore;
 
-public class SaveManager {
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Owns the one {@link SaveData} the game reads and changes; it is loaded once at startup and stays resident.
+ * {@link #flush()} runs every frame and, if the data changed, hands a serialized copy to a background writer.
+ * The writer puts it in a temp file, syncs it to disk and renames it over the save, so a crash mid-write
+ * leaves either the old save or the new one, never half of each. Snapshots queued while the writer is
+ * busy are collapsed into the newest. The {@link Leaderboard} and {@link RunHistory} beside it are
+ * append-only, so their new records are simply added to the end of their files and synced.
+ */
+public class SaveManager implements Disposable {
     private static final String SAVE_FILE = "save.json";
-    private static Json json = new Json();
+    private static final String LEADERBOARD_FILE = "leaderboard.bin";
+    private static final String HISTORY_FILE = "runs.bin";
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
 
-    public static void save(SaveData data) {
-        FileHandle file = Gdx.files.local("save.json");
+    private final Path path, tempPath, leaderboardPath, historyPath;
+    private final Json json = new Json();
+    private final SaveData data;
+    private final Leaderboard leaderboard;
+    private final RunHistory history;
+    private final AtomicReference<String> pending = new AtomicReference<>(); // newest snapshot not yet written
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-        // This will print the EXACT path on your Windows C: drive
-        System.out.println("DEBUG: Save file is at -> " + file.file().getAbsolutePath());
+    public SaveManager() {
+        this(Gdx.files.local(SAVE_FILE));
+    }
 
+    /** Keeps the save in {@code file} and the leaderboard and run history next to it. */
+    public SaveManager(FileHandle file) {
+        this.path = file.file().toPath();
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
         json.setOutputType(JsonWriter.OutputType.json);
-        file.writeString(json.prettyPrint(data), false);
-    }
-
-    public static SaveData load() {
-        FileHandle file = Gdx.files.local(SAVE_FILE);
-        if (file.exists()) {
-            try {
-                // Tell JSON to be "Ignore unknown fields"
-                json.setIgnoreUnknownFields(true);
-                return json.fromJson(SaveData.class, file.readString());
-            } catch (Exception e) {
-                System.err.println("Save file corrupted or old. Resetting.");
-                return new SaveData(); // Return fresh data if it still fails
+        json.setIgnoreUnknownFields(true);
+        this.data = load(file);
+
+        FileHandle leaderboardFile = file.sibling(LEADERBOARD_FILE);
+        this.leaderboardPath = leaderboardFile.file().toPath();
+        boolean existed = leaderboardFile.exists();
+        this.leaderboard = Leaderboard.read(leaderboardFile);
+        if (existed && leaderboardFile.length() > leaderboard.getStoredLength()) {
+            cut(leaderboardFile, leaderboard.getStoredLength());
+        }
+        if (!existed && data.leaderBoard.size > 0) {
+            // Scores from before the leaderboard file existed; the top ten kept them best first
+            for (LBScore score : data.leaderBoard) leaderboard.add(score.name, score.score, score.character);
+            data.leaderBoard.clear();
+            data.markDirty();
+        }
+
+        FileHandle historyFile = file.sibling(HISTORY_FILE);
+        this.historyPath = historyFile.file().toPath();
+        this.history = new RunHistory(historyFile);
+        if (historyFile.exists() && historyFile.length() > history.getStoredLength()) {
+            cut(historyFile, history.getStoredLength());
+        }
+    }
+
+    private SaveData load(FileHandle file) {
+        if (!file.exists()) return new SaveData();
+        try {
+            SaveData loaded = json.fromJson(SaveData.class, file.readString("UTF-8"));
+            if (loaded != null) return loaded;
+        } catch (Exception e) {
+            Gdx.app.error("SaveManager", "Save file corrupted or old. Resetting.", e);
+        }
+        return new SaveData(); // Return fresh data if it still fails
+    }
+
+    /** Drops a partly written last record, or a file in some other format, so appends start clean. */
+    private void cut(FileHandle file, long length) {
+        Gdx.app.error("SaveManager", file + " ends in a partial record or is not in the expected format; cutting it to "
+            + length + " bytes");
+        try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            Gdx.app.error("SaveManager", "Could not repair " + file, e);
+        }
+    }
+
+    /** The resident save; call {@link SaveData#markDirty()} after changing it other than through its own methods. */
+    public SaveData get() {
+        return data;
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    public RunHistory getHistory() {
+        return history;
+    }
+
+    /** Queues a write if anything changed since the last one. Cheap when nothing did. */
+    public void flush() {
+        // Runs first, so scores moved out of an old save are on disk before the save stops holding them
+        if (leaderboard.hasPending()) {
+            byte[] records = leaderboard.takePending();
+            writer.execute(() -> append(leaderboardPath, records));
+        }
+        if (history.hasPending()) {
+            byte[] records = history.takePending();
+            writer.execute(() -> append(historyPath, records));
+        }
+        if (!data.isDirty()) return;
+        data.clearDirty();
+        // Serialized here, on the thread that owns the data, so the writer never sees it mid-change
+        if (pending.getAndSet(json.prettyPrint(data)) == null) writer.execute(this::writePending);
+    }
+
+    /** Runs other file output, such as a replay, on the writer thread so the caller never waits on the disk. */
+    public void writeInBackground(Runnable write) {
+        writer.execute(write);
+    }
+
+    private void writePending() {
+        String text = pending.getAndSet(null);
+        if (text == null) return;
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) channel.write(bytes);
+                channel.force(true);
             }
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+        } catch (IOException e) {
+            Gdx.app.error("SaveManager", "Could not write " + path, e);
+        }
+    }
+
+    private void append(Path target, byte[] records) {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(records);
+            while (bytes.hasRemaining()) channel.write(bytes);
+            channel.force(true);
+        } catch (IOException e) {
+            Gdx.app.error("SaveManager", "Could not append to " + target, e);
+        }
+    }
+
+    /** Makes the rename itself durable where the platform allows syncing a directory (not on Windows). */
+    private void syncDirectory() {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory == null) return;
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /** Writes out any last change and waits for the writer to finish. */
+    @Override
+    public void dispose() {
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return new SaveData();
     }
 }
@@ -0,0 +1,120 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import io.github.DKICooked.entities.LBScore;
+
+/**
+ * Scores kept best first in a skip list whose links also count how many entries they jump over,
+ * so inserting, finding the n-th entry and counting the entries above a score all take O(log n).
+ * Equal scores keep the order they were added in, earliest first.
+ */
+class ScoreIndex {
+    private static final int MAX_LEVEL = 24; // 4^24 entries before the top level fills up
+
+    private final Node head = new Node(null, -1, MAX_LEVEL);
+    private final RandomXS128 random = new RandomXS128(0x5C0E5L); // levels only affect speed; fixed so timings repeat
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+    private int level = 1;
+    private int size = 0;
+
+    /** Adds {@code entry}; {@code order} breaks ties and must grow with every entry added. */
+    void add(LBScore entry, int order) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], entry.score, order)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(entry, order, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            // rank[0] - rank[i] is how far below update[i] the new node lands
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) update[i].span[i]++;
+        size++;
+    }
+
+    private static boolean precedes(Node node, int score, int order) {
+        return node.entry.score > score || (node.entry.score == score && node.order < order);
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) nodeLevel++;
+        return nodeLevel;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** How many entries score strictly more than {@code score}. */
+    int countAbove(int score) {
+        return countBefore(score, false);
+    }
+
+    /** How many entries score at least {@code score}: the entries a new one with that score is placed after. */
+    int countAtOrAbove(int score) {
+        return countBefore(score, true);
+    }
+
+    private int countBefore(int score, boolean ties) {
+        int count = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i].entry.score > score || (ties && x.next[i].entry.score == score))) {
+                count += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return count;
+    }
+
+    /** Adds up to {@code count} entries to {@code out}, starting {@code from} places below the best. */
+    Array<LBScore> range(int from, int count, Array<LBScore> out) {
+        if (from < 0 || from >= size || count <= 0) return out;
+        int target = from + 1, traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+        for (; x != null && count > 0; x = x.next[0], count--) out.add(x.entry);
+        return out;
+    }
+
+    private static class Node {
+        final LBScore entry;
+        final int order;
+        final Node[] next;
+        final int[] span; // entries passed over by next[i], counting the one it lands on
+
+        Node(LBScore entry, int order, int level) {
+            this.entry = entry;
+            this.order = order;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -1,34 +1,77 @@
 package io.github.DKICooked.gameLogic;
 
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.IntMap;
-import io.github.DKICooked.entities.Platform;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.gameLogic.generationLogic.ChunkPrefetcher;
 import io.github.DKICooked.gameLogic.generationLogic.LevelGenerator;
+import io.github.DKICooked.gameLogic.physics.PlatformIndex;
 
-public class WorldManager {
+public class WorldManager implements Disposable {
     public static final float CHUNK_HEIGHT = 600f;
+    public static final int PREFETCH_AHEAD = 4; // chunks generated in the background above the current one
+    public static final int DEFAULT_RETENTION = 2; // the run is over once the player falls this far below their best
 
-    private final LevelGenerator generator = new LevelGenerator();
+    private final LevelGenerator generator;
+    private final ChunkPrefetcher prefetcher;
+    private final PlatformStore store = new PlatformStore();
     private final IntMap<Chunk> chunks = new IntMap<>();
-    private final Array<Platform> activePlatforms = new Array<>();
+    private final IntArray activePlatforms = new IntArray();
+    private final int retention;
 
     private int currentChunk = 0;
+    private int highestChunk = 0;
+    private int lowestResident = 0; // chunks below this were evicted
 
     public WorldManager() {
+        this(MathUtils.random.nextLong());
+    }
+
+    public WorldManager(long worldSeed) {
+        this(worldSeed, DEFAULT_RETENTION);
+    }
+
+    /**
+     * Same seed, same tower: every chunk is derived from the seed and its index alone.
+     * Chunks more than {@code retention} below the highest one reached are evicted.
+     */
+    public WorldManager(long worldSeed, int retention) {
+        this.retention = retention;
+        generator = new LevelGenerator(worldSeed);
+        prefetcher = new ChunkPrefetcher(generator, CHUNK_HEIGHT);
+        prefetcher.requestUpTo(PREFETCH_AHEAD);
         generateNearbyChunks(0);
         refreshActivePlatforms();
     }
 
     public void update(float playerY) {
+        installFinishedChunks();
+
         int playerChunk = (int) (playerY / CHUNK_HEIGHT);
 
         if (playerChunk != currentChunk) {
             currentChunk = playerChunk;
+            prefetcher.requestUpTo(currentChunk + PREFETCH_AHEAD);
+            if (currentChunk > highestChunk) {
+                highestChunk = currentChunk;
+                evictBelow(highestChunk - retention);
+            }
             generateNearbyChunks(currentChunk);
             refreshActivePlatforms();
         }
     }
 
+    private void evictBelow(int index) {
+        while (lowestResident < index) {
+            Chunk chunk = chunks.remove(lowestResident);
+            if (chunk != null) store.release(chunk.start, chunk.end - chunk.start);
+            lowestResident++;
+        }
+    }
+
+    /** Makes sure chunks index-1..index+1 are installed, waiting on the worker only if they are not ready yet. */
     public void generateNearbyChunks(int index) {
         getOrCreateChunk(index - 1); // For falling safety
         getOrCreateChunk(index);
@@ -36,29 +79,73 @@ public class WorldManager {
     }
 
     private void getOrCreateChunk(int index) {
-        if (index < 0 || chunks.containsKey(index)) return;
-        Chunk chunk = new Chunk(index, index * CHUNK_HEIGHT);
-        chunk.platforms.addAll(generator.generateChunk(chunk.yStart, CHUNK_HEIGHT));
-        chunks.put(index, chunk);
+        if (index < lowestResident || chunks.containsKey(index)) return;
+        prefetcher.await(index);
+        installFinishedChunks();
+    }
+
+    private void installFinishedChunks() {
+        ChunkPrefetcher.GeneratedChunk generated;
+        while ((generated = prefetcher.poll()) != null) {
+            if (generated.index < lowestResident) continue; // Already climbed past it
+            Chunk chunk = new Chunk(generated.index, generated.index * CHUNK_HEIGHT);
+            chunk.start = store.allocate(generated.platforms);
+            chunk.end = chunk.start + generated.platforms.size;
+            chunk.grid = new PlatformIndex(store, chunk.start, chunk.end, chunk.yStart, CHUNK_HEIGHT);
+            chunks.put(chunk.index, chunk);
+        }
     }
 
     public void refreshActivePlatforms() {
         activePlatforms.clear();
         // Check -1, 0, and 1
         for (int i = currentChunk - 1; i <= currentChunk + 1; i++) {
-            if (chunks.containsKey(i)) {
-                activePlatforms.addAll(chunks.get(i).platforms);
+            Chunk chunk = chunks.get(i);
+            if (chunk != null) {
+                for (int p = chunk.start; p < chunk.end; p++) activePlatforms.add(p);
             }
         }
     }
 
-    public Array<Platform> getActivePlatforms() { return activePlatforms; }
+    /** Collects the active platforms overlapping [minY, maxY] into {@code out} (cleared first). */
+    public void queryPlatforms(float minY, float maxY, IntArray out) {
+        out.clear();
+        for (int i = currentChunk - 1; i <= currentChunk + 1; i++) {
+            Chunk chunk = chunks.get(i);
+            if (chunk != null) chunk.grid.query(minY, maxY, out);
+        }
+    }
+
+    /** Indices into {@link #getPlatformStore()} of every platform in the active chunks. */
+    public IntArray getActivePlatforms() { return activePlatforms; }
+    public PlatformStore getPlatformStore() { return store; }
+
+    /** First store index of chunk {@code index}'s platforms, or -1 if the chunk is not resident. */
+    public int getChunkStart(int index) {
+        Chunk chunk = chunks.get(index);
+        return chunk == null ? -1 : chunk.start;
+    }
+
+    /** One past the last store index of chunk {@code index}'s platforms, or -1 if the chunk is not resident. */
+    public int getChunkEnd(int index) {
+        Chunk chunk = chunks.get(index);
+        return chunk == null ? -1 : chunk.end;
+    }
+
     public int getCurrentChunk() { return currentChunk; }
+    public int getResidentChunkCount() { return chunks.size; }
+    public long getWorldSeed() { return generator.getWorldSeed(); }
+
+    @Override
+    public void dispose() {
+        prefetcher.dispose();
+    }
 
     private static class Chunk {
         int index;
         float yStart;
-        Array<Platform> platforms = new Array<>();
+        int start, end; // platform range in the store
+        PlatformIndex grid;
         Chunk(int index, float yStart) { this.index = index; this.yStart = yStart; }
     }
 }
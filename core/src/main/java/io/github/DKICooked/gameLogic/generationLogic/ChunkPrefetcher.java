@@ -0,0 +1,89 @@
+package io.github.DKICooked.gameLogic.generationLogic;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import io.github.DKICooked.entities.PlatformStore;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates chunks ahead of the player on a background thread.
+ * Finished chunks are handed back through a lock-free queue; the render thread drains it
+ * with {@link #poll()} and only blocks in {@link #await(int)} if the player outruns the worker.
+ */
+public class ChunkPrefetcher implements Disposable {
+
+    /** A chunk built on the worker thread, waiting to be installed by the render thread. */
+    public static class GeneratedChunk {
+        public final int index;
+        public final PlatformStore platforms = new PlatformStore(16);
+
+        GeneratedChunk(int index) {
+            this.index = index;
+        }
+    }
+
+    private final LevelGenerator generator;
+    private final float chunkHeight;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<GeneratedChunk> finished = new ConcurrentLinkedQueue<>();
+
+    // Render-thread only
+    private final IntMap<Future<?>> pending = new IntMap<>();
+    private int nextToSchedule = 0;
+
+    public ChunkPrefetcher(LevelGenerator generator, float chunkHeight) {
+        this.generator = generator;
+        this.chunkHeight = chunkHeight;
+        // One worker is plenty: a chunk takes well under a frame, and it keeps results arriving in index order
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chunk-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Queues every chunk up to and including {@code index} that has not been queued yet. */
+    public void requestUpTo(int index) {
+        while (nextToSchedule <= index) {
+            int chunkIndex = nextToSchedule++;
+            pending.put(chunkIndex, executor.submit(() -> {
+                GeneratedChunk chunk = new GeneratedChunk(chunkIndex);
+                generator.generateChunk(chunk.platforms, chunkIndex, chunkHeight);
+                finished.offer(chunk);
+            }));
+        }
+    }
+
+    /** Blocks until chunk {@code index} is sitting in the finished queue (or was already polled). */
+    public void await(int index) {
+        requestUpTo(index);
+        Future<?> future = pending.get(index);
+        if (future == null) return;
+
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Chunk " + index + " failed to generate", e.getCause());
+        }
+    }
+
+    /** Returns the next finished chunk, or null if the worker has nothing new. */
+    public GeneratedChunk poll() {
+        GeneratedChunk chunk = finished.poll();
+        if (chunk != null) pending.remove(chunk.index);
+        return chunk;
+    }
+
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+    }
+}
@@ -1,8 +1,9 @@
 package io.github.DKICooked.gameLogic.generationLogic;
 
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
-import io.github.DKICooked.entities.Platform;
+import io.github.DKICooked.entities.PlatformStore;
 import io.github.DKICooked.entities.PowerUpActor;
 
 public class LevelGenerator {
@@ -19,85 +20,191 @@ public class LevelGenerator {
     private static final float MIN_STEP_Y    = 120f;   // minimum vertical rise per hop
     private static final float H_CLEARANCE   = 50f;    // horizontal breathing room
     private static final float V_CLEARANCE   = 50f;    // vertical breathing room
+    private static final float H_SEPARATION  = PLATFORM_HALF * 2 + 10f; // closer than this, two platforms overlap
+    private static final float V_SEPARATION  = TILE_SIZE + 5f;
+
+    // ── Bridges ───────────────────────────────────────────────────────────────
+    private static final int       MAX_BRIDGES   = 12; // per exit; a chunk is only a few hops tall
+    private static final float[][] BRIDGE_NUDGES = {  // tried in order until one is clear of other platforms
+        {0, 0},
+        {H_SEPARATION, 0}, {-H_SEPARATION, 0},
+        {0, V_SEPARATION}, {0, -V_SEPARATION},
+        {H_SEPARATION, V_SEPARATION}, {-H_SEPARATION, V_SEPARATION},
+    };
 
     // ── Chunk shape ───────────────────────────────────────────────────────────
     private static final int   NODES_PER_CHUNK   = 5;
     private static final float CHUNK_TOP_MARGIN  = 150f; // stop seeding this close to top
     private static final int   CANDIDATE_TRIES   = 10;   // retries per node placement
 
-    // ── State carried between chunks ──────────────────────────────────────────
-    /** Landing nodes from the top of the previous chunk — seed for the next one. */
-    private final Array<float[]> seedNodes = new Array<>(); // each entry: {x, y}
+    // ── Chunk boundaries ──────────────────────────────────────────────────────
+    private static final int   BOUNDARY_NODES    = 2;    // landing spots shared by neighbouring chunks
+    private static final float BOUNDARY_BAND     = 60f;  // how far below CHUNK_TOP_MARGIN they may sit
+    private static final long  BOUNDARY_SALT     = 0x5DEECE66DL;
+
+    // ── Randomness ────────────────────────────────────────────────────────────
+    /** Re-seeded at the start of every chunk, so a chunk depends only on the world seed and its index. */
+    private final RandomXS128 random = new RandomXS128();
+    private final RandomXS128 boundaryRandom = new RandomXS128();
+    private final long worldSeed;
+
+    public LevelGenerator(long worldSeed) {
+        this.worldSeed = worldSeed;
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
 
     // ─────────────────────────────────────────────────────────────────────────
 
-    public Array<Platform> generateChunk(float chunkYStart, float chunkHeight) {
-        Array<Platform> platforms = new Array<>();
+    /** The layout theme {@link #generateChunk} picks for chunk {@code chunkIndex}. */
+    public synchronized ChunkTheme themeOf(int chunkIndex) {
+        random.setSeed(chunkSeed(chunkIndex));
+        return ChunkTheme.random(random);
+    }
+
+    /**
+     * Appends the platforms of chunk {@code chunkIndex} to {@code store}.
+     * The result depends only on the world seed and the index, so any chunk can be (re)generated
+     * on its own, in any order: neighbouring chunks meet at boundary nodes derived from the seed.
+     */
+    public synchronized void generateChunk(PlatformStore store, int chunkIndex, float chunkHeight) {
+        float chunkYStart = chunkIndex * chunkHeight;
         float chunkTop = chunkYStart + chunkHeight;
+        random.setSeed(chunkSeed(chunkIndex));
 
         // ── Ground chunk (first ever) ─────────────────────────────────────────
-        if (chunkYStart == 0) {
-            platforms.add(new Platform(0, 50, SCREEN_WIDTH, 50));
-            seedNodes.clear();
-            seedNodes.add(new float[]{250f, 80f});
-            seedNodes.add(new float[]{550f, 80f});
+        if (chunkIndex == 0) {
+            store.add(0, 50, SCREEN_WIDTH, 50, PlatformStore.DEFAULT_THICKNESS, PlatformStore.GROUND);
         }
 
         // ── Pick a layout theme for this chunk ────────────────────────────────
-        ChunkTheme theme = ChunkTheme.random();
+        ChunkTheme theme = ChunkTheme.random(random);
 
         // ── Build node graph ──────────────────────────────────────────────────
-        Array<float[]> allNodes = new Array<>();
-        for (float[] s : seedNodes) allNodes.add(s);
+        // Entry nodes were placed by the chunk below; exit nodes are the next chunk's entries
+        Array<float[]> exitNodes = boundaryNodes(chunkIndex + 1, chunkTop);
+        Array<float[]> allNodes = boundaryNodes(chunkIndex, chunkYStart);
 
         Array<float[]> newNodes = new Array<>();
 
         int target = NODES_PER_CHUNK + theme.extraNodes;
         for (int i = 0; i < target; i++) {
-            float[] node = placeNode(allNodes, chunkYStart, chunkTop, theme);
+            float[] node = placeNode(allNodes, exitNodes, chunkYStart, chunkTop, theme);
             if (node != null) {
                 allNodes.add(node);
                 newNodes.add(node);
             }
         }
 
-        // ── Turn nodes into Platform objects ──────────────────────────────────
+        // Walls never go on exit nodes: this chunk can't see the routes above them
+        Array<float[]> wallCandidates = new Array<>(newNodes);
+        connectExitNodes(exitNodes, allNodes, newNodes, wallCandidates);
+
+        // ── Turn nodes into platforms ─────────────────────────────────────────
         for (float[] node : newNodes) {
             float cx = node[0];
             float cy = node[1];
-            Platform p = new Platform(cx - PLATFORM_HALF, cy, cx + PLATFORM_HALF, cy);
-            p.thickness = MathUtils.randomBoolean(0.3f) ? TILE_SIZE * 1.5f : TILE_SIZE;
+            float thickness = chance(0.3f) ? TILE_SIZE * 1.5f : TILE_SIZE;
+            int p = store.add(cx - PLATFORM_HALF, cy, cx + PLATFORM_HALF, cy, thickness, PlatformStore.SLAB);
 
-            if (MathUtils.randomBoolean(0.12f)) {
+            if (chance(0.12f)) {
                 // Flip a coin: heads it's a Ghost, tails it's a UFO
-                if (MathUtils.randomBoolean()) {
-                    p.powerUpType = PowerUpActor.Type.GHOST;
+                if (random.nextBoolean()) {
+                    store.setPowerUp(p, PowerUpActor.Type.GHOST);
                 } else {
-                    p.powerUpType = PowerUpActor.Type.UFO_RIDE;
+                    store.setPowerUp(p, PowerUpActor.Type.UFO_RIDE);
                 }
             }
-            platforms.add(p);
         }
 
         // ── Wall placement (safe: only when alternate route exists) ───────────
-        placeWalls(platforms, newNodes, allNodes);
-
-        // ── Seed next chunk from the topmost nodes ────────────────────────────
-        seedNodes.clear();
-        Array<float[]> sorted = new Array<>(newNodes);
-        sorted.sort((a, b) -> Float.compare(b[1], a[1])); // descending Y
-        int seedCount = Math.min(3, sorted.size);
-        for (int i = 0; i < seedCount; i++) seedNodes.add(sorted.get(i));
-        if (seedNodes.size == 0) { // fallback — shouldn't happen
-            seedNodes.add(new float[]{SCREEN_WIDTH / 2f, chunkTop - CHUNK_TOP_MARGIN});
+        placeWalls(store, wallCandidates, allNodes);
+    }
+
+    // ── Chunk boundaries ──────────────────────────────────────────────────────
+
+    /**
+     * Landing nodes just below {@code boundaryY}, shared by the chunks on either side of it.
+     * The chunk below must make them reachable and owns their platforms; the chunk above climbs from them.
+     */
+    private Array<float[]> boundaryNodes(int boundary, float boundaryY) {
+        Array<float[]> nodes = new Array<>();
+        if (boundary == 0) { // The ground
+            nodes.add(new float[]{250f, 80f});
+            nodes.add(new float[]{550f, 80f});
+            return nodes;
+        }
+
+        boundaryRandom.setSeed(worldSeed ^ BOUNDARY_SALT ^ (boundary * 0xC2B2AE3D27D4EB4FL));
+        float minX = MARGIN + PLATFORM_HALF;
+        float laneWidth = (SCREEN_WIDTH - 2 * minX) / BOUNDARY_NODES;
+        float laneGap = PLATFORM_HALF + 10f; // keeps the lanes from visually overlapping
+        for (int i = 0; i < BOUNDARY_NODES; i++) {
+            float laneStart = minX + laneWidth * i;
+            float x = laneStart + boundaryRandom.nextFloat() * (laneWidth - laneGap);
+            if (i > 0) x += laneGap;
+            float y = boundaryY - CHUNK_TOP_MARGIN - boundaryRandom.nextFloat() * BOUNDARY_BAND;
+            nodes.add(new float[]{x, y});
+        }
+        return nodes;
+    }
+
+    /** Adds bridge nodes until every exit node is reachable, then adds the exits themselves. */
+    private void connectExitNodes(Array<float[]> exitNodes, Array<float[]> allNodes,
+                                  Array<float[]> newNodes, Array<float[]> wallCandidates) {
+        for (float[] exit : exitNodes) {
+            // Climb from the highest node below the exit in evenly spaced, comfortably short hops
+            float[] from = null;
+            for (float[] n : allNodes) {
+                if (n[1] < exit[1] && (from == null || n[1] > from[1])) from = n;
+            }
+            for (int tries = 0; from != null && !isReachable(exit, allNodes) && tries < MAX_BRIDGES; tries++) {
+                float dx = exit[0] - from[0];
+                float dy = exit[1] - from[1];
+                int hops = Math.max(
+                    (int) Math.ceil(dy / (MAX_JUMP_H * 0.8f)),
+                    (int) Math.ceil(Math.abs(dx) / (MAX_JUMP_W * 0.8f)));
+                float[] bridge = placeBridge(from, from[0] + dx / hops, from[1] + dy / hops, allNodes, exitNodes);
+                if (bridge != null) {
+                    allNodes.add(bridge);
+                    newNodes.add(bridge);
+                    wallCandidates.add(bridge);
+                    from = bridge;
+                } else {
+                    // The hop lands on a platform that is already there: climb on from that one instead
+                    float[] clash = findTooClose(from[0] + dx / hops, from[1] + dy / hops, allNodes);
+                    if (clash == null || clash[1] <= from[1] || clash[1] >= exit[1]) break;
+                    from = clash;
+                }
+            }
+            allNodes.add(exit);
+            newNodes.add(exit);
         }
+    }
 
-        return platforms;
+    /**
+     * A bridge node one hop above {@code from}, at ({@code x}, {@code y}) or nudged just clear of the
+     * platforms near it, or null when every spot tried would overlap one or is out of reach.
+     */
+    private float[] placeBridge(float[] from, float x, float y, Array<float[]> allNodes, Array<float[]> exitNodes) {
+        float minX = MARGIN + PLATFORM_HALF;
+        float maxX = SCREEN_WIDTH - MARGIN - PLATFORM_HALF;
+        for (float[] nudge : BRIDGE_NUDGES) {
+            float[] bridge = new float[]{MathUtils.clamp(x + nudge[0], minX, maxX), y + nudge[1]};
+            float dx = Math.abs(bridge[0] - from[0]);
+            float dy = bridge[1] - from[1];
+            if (dy <= 0 || dy > MAX_JUMP_H || dx > MAX_JUMP_W) continue;
+            if (isTooClose(bridge, allNodes) || isTooClose(bridge, exitNodes)) continue;
+            return bridge;
+        }
+        return null;
     }
 
     // ── Node placement ────────────────────────────────────────────────────────
 
-    private float[] placeNode(Array<float[]> existing, float chunkYStart, float chunkTop, ChunkTheme theme) {
+    private float[] placeNode(Array<float[]> existing, Array<float[]> reserved, float chunkYStart, float chunkTop, ChunkTheme theme) {
         float bestScore = Float.NEGATIVE_INFINITY;
         float[] best = null;
 
@@ -105,7 +212,7 @@ public class LevelGenerator {
             float[] candidate = generateCandidate(existing, chunkYStart, chunkTop, theme);
             if (candidate == null) continue;
             if (!isReachable(candidate, existing)) continue;
-            if (isTooClose(candidate, existing)) continue;
+            if (isTooClose(candidate, existing) || isTooClose(candidate, reserved)) continue;
 
             float score = scoreCandidate(candidate, existing, chunkTop, theme);
             if (score > bestScore) {
@@ -121,24 +228,26 @@ public class LevelGenerator {
         for (float[] n : existing) if (n[1] > highest[1]) highest = n;
 
         float fallbackX = MathUtils.clamp(
-            highest[0] + MathUtils.random(-MAX_JUMP_W * 0.6f, MAX_JUMP_W * 0.6f),
+            highest[0] + randomRange(-MAX_JUMP_W * 0.6f, MAX_JUMP_W * 0.6f),
             MARGIN + PLATFORM_HALF, SCREEN_WIDTH - MARGIN - PLATFORM_HALF
         );
-        float fallbackY = highest[1] + MathUtils.random(MIN_STEP_Y, MAX_JUMP_H * 0.85f);
+        float fallbackY = highest[1] + randomRange(MIN_STEP_Y, MAX_JUMP_H * 0.85f);
 
         if (fallbackY > chunkTop - CHUNK_TOP_MARGIN) return null;
-        return new float[]{fallbackX, fallbackY};
+        float[] fallback = new float[]{fallbackX, fallbackY};
+        if (isTooClose(fallback, reserved)) return null;
+        return fallback;
     }
 
     private float[] generateCandidate(Array<float[]> existing, float chunkYStart, float chunkTop, ChunkTheme theme) {
         if (existing.size == 0) return null;
 
         // Pick a random existing node as the jump-off point
-        float[] from = existing.get(MathUtils.random(Math.max(0, existing.size - 4), existing.size - 1));
+        float[] from = existing.get(randomRange(Math.max(0, existing.size - 4), existing.size - 1));
 
-        float jumpFrac = MathUtils.random(0.5f, 1.0f);
+        float jumpFrac = randomRange(0.5f, 1.0f);
         float dy = MIN_STEP_Y + (MAX_JUMP_H - MIN_STEP_Y) * jumpFrac * theme.verticalBias;
-        float dx = MAX_JUMP_W * MathUtils.random(0.3f, 0.9f) * (MathUtils.randomBoolean() ? 1 : -1) * theme.horizontalBias;
+        float dx = MAX_JUMP_W * randomRange(0.3f, 0.9f) * (random.nextBoolean() ? 1 : -1) * theme.horizontalBias;
 
         float nx = MathUtils.clamp(from[0] + dx, MARGIN + PLATFORM_HALF, SCREEN_WIDTH - MARGIN - PLATFORM_HALF);
         float ny = from[1] + dy;
@@ -161,13 +270,18 @@ public class LevelGenerator {
     }
 
     private boolean isTooClose(float[] node, Array<float[]> existing) {
-        for (float[] other : existing) {
-            float dx = Math.abs(node[0] - other[0]);
-            float dy = Math.abs(node[1] - other[1]);
-            // Only reject if they'd visually overlap
-            if (dx < PLATFORM_HALF * 2 + 10f && dy < TILE_SIZE + 5f) return true;
+        return findTooClose(node[0], node[1], existing) != null;
+    }
+
+    /** The first node that a platform at ({@code x}, {@code y}) would visually overlap, or null. */
+    private float[] findTooClose(float x, float y, Array<float[]> existing) {
+        for (int i = 0; i < existing.size; i++) { // indexed: callers may be iterating the same array
+            float[] other = existing.get(i);
+            float dx = Math.abs(x - other[0]);
+            float dy = Math.abs(y - other[1]);
+            if (dx < H_SEPARATION && dy < V_SEPARATION) return other;
         }
-        return false;
+        return null;
     }
 
     /** Score encourages spread, variety, and staying in-theme. */
@@ -194,9 +308,9 @@ public class LevelGenerator {
 
     // ── Wall placement ────────────────────────────────────────────────────────
 
-    private void placeWalls(Array<Platform> platforms, Array<float[]> newNodes, Array<float[]> allNodes) {
+    private void placeWalls(PlatformStore store, Array<float[]> newNodes, Array<float[]> allNodes) {
         for (float[] node : newNodes) {
-            if (!MathUtils.randomBoolean(0.28f)) continue;
+            if (!chance(0.28f)) continue;
 
             // Only place a wall if the player has an alternate route to the node above
             float[] nodeAbove = findNearestAbove(node, allNodes);
@@ -204,12 +318,12 @@ public class LevelGenerator {
             if (!hasAlternateRoute(node, nodeAbove, allNodes)) continue;
 
             // Place wall on whichever side of the platform is less obstructive
-            float wallX = MathUtils.randomBoolean() ? node[0] + PLATFORM_HALF : node[0] - PLATFORM_HALF;
+            float wallX = random.nextBoolean() ? node[0] + PLATFORM_HALF : node[0] - PLATFORM_HALF;
             wallX = MathUtils.clamp(wallX, MARGIN, SCREEN_WIDTH - MARGIN);
 
-            float wallHeight = TILE_SIZE * MathUtils.random(2, 3);
+            float wallHeight = TILE_SIZE * randomRange(2, 3);
             float baseY = node[1]; // sits on top of the platform surface
-            platforms.add(new Platform(wallX, baseY, wallX, baseY + wallHeight));
+            store.add(wallX, baseY, wallX, baseY + wallHeight, PlatformStore.DEFAULT_THICKNESS, PlatformStore.WALL);
         }
     }
 
@@ -240,6 +354,22 @@ public class LevelGenerator {
 
     // ── Helpers ───────────────────────────────────────────────────────────────
 
+    private long chunkSeed(int chunkIndex) {
+        return worldSeed ^ (chunkIndex * 0x9E3779B97F4A7C15L);
+    }
+
+    private float randomRange(float start, float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+
+    private int randomRange(int start, int end) {
+        return start + random.nextInt(end - start + 1);
+    }
+
+    private boolean chance(float probability) {
+        return random.nextFloat() < probability;
+    }
+
     private float dst(float[] a, float[] b) {
         float dx = a[0] - b[0];
         float dy = a[1] - b[1];
@@ -248,7 +378,7 @@ public class LevelGenerator {
 
     // ── Chunk themes ─────────────────────────────────────────────────────────
 
-    private enum ChunkTheme {
+    public enum ChunkTheme {
         ZIGZAG      (0,  1.0f, 1.2f,  0.2f), // tight horizontal hops
         OPEN        (1,  1.1f, 0.8f,  0.5f), // tall airy jumps, centered
         DENSE       (2,  0.7f, 0.7f, -0.2f), // lots of close platforms
@@ -267,9 +397,9 @@ public class LevelGenerator {
             this.edgeBias       = edgeBias;
         }
 
-        static ChunkTheme random() {
+        static ChunkTheme random(RandomXS128 random) {
             ChunkTheme[] values = values();
-            return values[MathUtils.random(values.length - 1)];
+            return values[random.nextInt(values.length)];
         }
     }
 }
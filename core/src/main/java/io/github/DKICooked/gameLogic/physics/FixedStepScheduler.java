@@ -0,0 +1,44 @@
+package io.github.DKICooked.gameLogic.physics;
+
+/**
+ * Turns variable render frames into a whole number of fixed simulation ticks.
+ * Frame time is banked in an accumulator; whatever is left over after the ticks becomes
+ * {@link #getAlpha()}, the fraction used to blend between the last two tick positions when drawing.
+ */
+public class FixedStepScheduler {
+    public static final float DEFAULT_TICK = 1f / 180f; // the rate player physics was tuned at
+    // Coarsest rate checked against the default: the same landings and ceiling bumps, and nothing falls through a platform
+    public static final int MIN_TICK_RATE = 60;
+    public static final int MAX_TICK_RATE = 240;
+    private static final float MAX_FRAME = 0.25f; // a longer hitch is dropped rather than replayed tick by tick
+
+    private final float tick;
+    private float accumulator = 0f;
+
+    public FixedStepScheduler() {
+        this(DEFAULT_TICK);
+    }
+
+    /** @param tick seconds per simulation step; larger ticks trade precision for less work per frame */
+    public FixedStepScheduler(float tick) {
+        this.tick = tick;
+    }
+
+    /** Seconds per tick at {@code ticksPerSecond}, clamped to {@link #MIN_TICK_RATE}..{@link #MAX_TICK_RATE}. */
+    public static float tickForRate(int ticksPerSecond) {
+        return 1f / Math.max(MIN_TICK_RATE, Math.min(MAX_TICK_RATE, ticksPerSecond));
+    }
+
+    /** Banks {@code frameDelta} and returns how many ticks to run this frame. */
+    public int advance(float frameDelta) {
+        accumulator += Math.min(frameDelta, MAX_FRAME);
+        int ticks = (int) (accumulator / tick);
+        accumulator -= ticks * tick;
+        return ticks;
+    }
+
+    public float getTick() { return tick; }
+
+    /** How far the render frame is past the last tick, from 0 to 1. */
+    public float getAlpha() { return accumulator / tick; }
+}
@@ -0,0 +1,172 @@
+package io.github.DKICooked.gameLogic.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import io.github.DKICooked.entities.Collidable;
+
+/**
+ * Y-band broadphase for raid hazards, kept up to date by the hazards themselves rather than rebuilt.
+ * A hazard {@link #add}s its {@link Entry} when it spawns, {@link #update}s it after every tick it moves and
+ * {@link #remove}s it when it despawns; each of those is O(1). The entry is filed under the band holding the
+ * bottom of the box it swept through on its last tick. Bands are kept in a ring of {@link #SLOTS} slots, far
+ * taller than the strip of sky hazards live in, so the index never grows as the player climbs. A query
+ * only visits the slots around the player, so its cost follows the hazards near the player, not the total.
+ */
+public class HazardBroadphase {
+    public static final float BAND_HEIGHT = 128f;
+    private static final int SLOTS = 32; // 4096 px of bands before two of them share a slot
+
+    private final Array<Entry>[] slots;
+    private final Rectangle swept = new Rectangle();
+    private float maxSpan = 0f; // tallest swept box seen; only ever grows
+
+    @SuppressWarnings("unchecked")
+    public HazardBroadphase() {
+        slots = new Array[SLOTS];
+        for (int i = 0; i < SLOTS; i++) slots[i] = new Array<>(false, 16);
+    }
+
+    /** Starts tracking a hazard that has just been placed. */
+    public void add(Entry entry) {
+        if (entry.slot >= 0) throw new IllegalStateException("Hazard is already in the broadphase");
+        refresh(entry);
+        insert(entry);
+    }
+
+    /** Refiles a tracked hazard after it moved. */
+    public void update(Entry entry) {
+        if (entry.slot < 0) return;
+        refresh(entry);
+        int slot = slotOf(entry.band);
+        if (slot == entry.slot) return;
+        detach(entry);
+        insert(entry);
+    }
+
+    /** Stops tracking a hazard; safe to call for one that is not tracked. */
+    public void remove(Entry entry) {
+        if (entry.slot < 0) return;
+        detach(entry);
+        entry.slot = -1;
+    }
+
+    private void refresh(Entry entry) {
+        entry.owner.getSweptBounds(swept);
+        entry.minX = swept.x;
+        entry.minY = swept.y;
+        entry.maxX = swept.x + swept.width;
+        entry.maxY = swept.y + swept.height;
+        entry.band = bandOf(swept.y);
+        maxSpan = Math.max(maxSpan, swept.height);
+    }
+
+    private void insert(Entry entry) {
+        Array<Entry> slot = slots[slotOf(entry.band)];
+        entry.slot = slotOf(entry.band);
+        entry.index = slot.size;
+        slot.add(entry);
+    }
+
+    private void detach(Entry entry) {
+        Array<Entry> slot = slots[entry.slot];
+        slot.removeIndex(entry.index); // unordered: the last entry moves into the gap
+        if (entry.index < slot.size) slot.get(entry.index).index = entry.index;
+    }
+
+    /** Returns a hazard whose swept shape touches {@code rect}, or null if there is none. */
+    public Collidable findHit(Rectangle rect) {
+        float rectTop = rect.y + rect.height;
+        float rectRight = rect.x + rect.width;
+
+        // A box starts at most maxSpan below its top, so bottoms down to rect.y - maxSpan can still reach the rect
+        int first = bandOf(rect.y - maxSpan);
+        int last = Math.min(bandOf(rectTop), first + SLOTS - 1); // never visit a slot twice
+        for (int band = first; band <= last; band++) {
+            Array<Entry> slot = slots[slotOf(band)];
+            for (int i = 0; i < slot.size; i++) {
+                Entry e = slot.get(i);
+                // Also rejects entries from the bands that share this slot
+                if (e.maxY < rect.y || e.minY > rectTop || e.maxX < rect.x || e.minX > rectRight) continue;
+                if (e.owner.overlaps(rect)) return e.owner;
+            }
+        }
+        return null;
+    }
+
+    private static int bandOf(float y) {
+        return (int) Math.floor(y / BAND_HEIGHT);
+    }
+
+    private static int slotOf(int band) {
+        return Math.floorMod(band, SLOTS);
+    }
+
+    /** A hazard's place in the index; each hazard owns one for its whole pooled life. */
+    public static class Entry {
+        final Collidable owner;
+        float minX, minY, maxX, maxY; // swept bounds as of the last add or update
+        int band;
+        int slot = -1; // -1 while not tracked
+        int index;
+
+        public Entry(Collidable owner) {
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * True if a circle of radius {@code r} moving in a straight line from (x0, y0) to (x1, y1) touches {@code rect}.
+     * The path misses only if the segment stays more than r from the rect, and for a segment and a box that
+     * closest distance is always reached at one of the segment's ends or one of the box's corners.
+     */
+    public static boolean sweptCircleOverlaps(float x0, float y0, float x1, float y1, float r, Rectangle rect) {
+        float r2 = r * r;
+        float left = rect.x, bottom = rect.y, right = rect.x + rect.width, top = rect.y + rect.height;
+
+        if (pointRectDst2(x0, y0, left, bottom, right, top) <= r2) return true;
+        if (pointRectDst2(x1, y1, left, bottom, right, top) <= r2) return true;
+        if (segmentPointDst2(x0, y0, x1, y1, left, bottom) <= r2) return true;
+        if (segmentPointDst2(x0, y0, x1, y1, right, bottom) <= r2) return true;
+        if (segmentPointDst2(x0, y0, x1, y1, left, top) <= r2) return true;
+        if (segmentPointDst2(x0, y0, x1, y1, right, top) <= r2) return true;
+        return segmentCrossesRect(x0, y0, x1, y1, left, bottom, right, top);
+    }
+
+    private static float pointRectDst2(float px, float py, float left, float bottom, float right, float top) {
+        float dx = Math.max(0f, Math.max(left - px, px - right));
+        float dy = Math.max(0f, Math.max(bottom - py, py - top));
+        return dx * dx + dy * dy;
+    }
+
+    private static float segmentPointDst2(float x0, float y0, float x1, float y1, float px, float py) {
+        float dx = x1 - x0, dy = y1 - y0;
+        float len2 = dx * dx + dy * dy;
+        float t = len2 == 0f ? 0f : ((px - x0) * dx + (py - y0) * dy) / len2;
+        t = Math.max(0f, Math.min(1f, t));
+        float cx = x0 + t * dx - px, cy = y0 + t * dy - py;
+        return cx * cx + cy * cy;
+    }
+
+    /** Slab test: clips the segment against both axes of the box. */
+    private static boolean segmentCrossesRect(float x0, float y0, float x1, float y1,
+                                              float left, float bottom, float right, float top) {
+        float tMin = 0f, tMax = 1f;
+        float dx = x1 - x0, dy = y1 - y0;
+
+        if (dx == 0f) {
+            if (x0 < left || x0 > right) return false;
+        } else {
+            float ta = (left - x0) / dx, tb = (right - x0) / dx;
+            tMin = Math.max(tMin, Math.min(ta, tb));
+            tMax = Math.min(tMax, Math.max(ta, tb));
+        }
+        if (dy == 0f) {
+            if (y0 < bottom || y0 > top) return false;
+        } else {
+            float ta = (bottom - y0) / dy, tb = (top - y0) / dy;
+            tMin = Math.max(tMin, Math.min(ta, tb));
+            tMax = Math.min(tMax, Math.max(ta, tb));
+        }
+        return tMin <= tMax;
+    }
+}
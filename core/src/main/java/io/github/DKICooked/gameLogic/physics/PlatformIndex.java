@@ -0,0 +1,74 @@
+package io.github.DKICooked.gameLogic.physics;
+
+import com.badlogic.gdx.utils.IntArray;
+import io.github.DKICooked.entities.PlatformStore;
+
+/**
+ * Uniform Y-bucket grid over the platforms of one chunk.
+ * Every platform is filed under the bucket holding its top edge, and the buckets are packed
+ * back to back in one array, so a query is a single contiguous slice instead of a full scan.
+ */
+public class PlatformIndex {
+    public static final float BUCKET_HEIGHT = 50f;
+
+    private final PlatformStore store;
+    private final float yStart;
+    private final int bucketCount;
+    private final int[] sorted;      // platform indices into the store, grouped by bucket
+    private final int[] bucketStart; // bucket b lives in sorted[bucketStart[b] .. bucketStart[b + 1])
+
+    private float maxSpan = 0f;   // tallest platform (top edge to bottom of slab)
+    private float minBottom = Float.MAX_VALUE;
+    private float maxTop = -Float.MAX_VALUE;
+
+    /** Indexes the platforms stored at [start, end) in {@code store}. */
+    public PlatformIndex(PlatformStore store, int start, int end, float yStart, float height) {
+        this.store = store;
+        this.yStart = yStart;
+        this.bucketCount = Math.max(1, (int) Math.ceil(height / BUCKET_HEIGHT));
+        this.sorted = new int[end - start];
+        this.bucketStart = new int[bucketCount + 1];
+
+        // 1. Count platforms per bucket
+        for (int p = start; p < end; p++) {
+            float top = store.top(p);
+            float bottom = store.bottom(p);
+            maxSpan = Math.max(maxSpan, top - bottom);
+            minBottom = Math.min(minBottom, bottom);
+            maxTop = Math.max(maxTop, top);
+            bucketStart[bucketOf(top) + 1]++;
+        }
+
+        // 2. Prefix sum turns counts into slice offsets
+        for (int b = 0; b < bucketCount; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        // 3. Scatter into place
+        int[] fill = new int[bucketCount];
+        for (int p = start; p < end; p++) {
+            int b = bucketOf(store.top(p));
+            sorted[bucketStart[b] + fill[b]++] = p;
+        }
+    }
+
+    /** Adds every platform whose vertical extent overlaps [minY, maxY] to {@code out}. */
+    public void query(float minY, float maxY, IntArray out) {
+        if (sorted.length == 0 || maxY < minBottom || minY > maxTop) return;
+
+        // A platform reaches down at most maxSpan below its top, so tops up to maxY + maxSpan can still overlap
+        int first = bucketStart[bucketOf(minY)];
+        int last = bucketStart[bucketOf(maxY + maxSpan) + 1];
+
+        for (int i = first; i < last; i++) {
+            int p = sorted[i];
+            if (store.top(p) >= minY && store.bottom(p) <= maxY) out.add(p);
+        }
+    }
+
+    private int bucketOf(float y) {
+        int b = (int) ((y - yStart) / BUCKET_HEIGHT);
+        if (b < 0) return 0;
+        return Math.min(b, bucketCount - 1);
+    }
+}
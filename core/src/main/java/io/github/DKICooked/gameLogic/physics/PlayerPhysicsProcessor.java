@@ -1,17 +1,19 @@
 package io.github.DKICooked.gameLogic.physics;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.utils.Array;
-import io.github.DKICooked.entities.Platform;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.DKICooked.entities.PlatformStore;
 import io.github.DKICooked.entities.PlayerActor;
-import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.sim.SimulationListener;
 
 public class PlayerPhysicsProcessor {
     private final PlayerActor player;
     private final PhysicsBody body;
-    private final SoundPlayer soundPlayer;
+    private final SimulationListener listener;
+    private final IntArray nearbyPlatforms = new IntArray();
+    private final float[] checkPointsX = new float[3];
+    private static final float QUERY_PADDING = 16f; // covers the landing/head-bump tolerances below
 
     public float jumpCharge = 0f;
     public final float maxJumpCharge = 900f;
@@ -22,42 +24,51 @@ public class PlayerPhysicsProcessor {
     public float stunTime = 0f;
     public boolean facingRight = true;
 
-    public PlayerPhysicsProcessor(PlayerActor player, PhysicsBody body, SoundPlayer soundPlayer) {
+    public PlayerPhysicsProcessor(PlayerActor player, PhysicsBody body, SimulationListener listener) {
         this.player = player;
         this.body = body;
-        this.soundPlayer = soundPlayer;
+        this.listener = listener;
     }
 
-    public void update(float dt, Array<Platform> platforms, float horizontalInput) {
+    /**
+     * Advances the player by one tick.
+     * @param jumpHeld whether jump is down this tick
+     * @param jumpPressed whether it went down this tick, which is what triggers an air jump
+     */
+    public void update(float dt, WorldManager world, float horizontalInput, boolean jumpHeld, boolean jumpPressed) {
         float oldX = player.getX();
         float oldY = player.getY();
         float oldHeadY = oldY + player.getHeight();
 
-        boolean space = Gdx.input.isKeyPressed(Input.Keys.SPACE);
+        // Only test platforms the player can touch during this sub-step
+        float reach = (Math.abs(body.velocityY) + Math.abs(body.getGravity()) * dt) * dt + QUERY_PADDING;
+        world.queryPlatforms(oldY - reach, oldHeadY + reach, nearbyPlatforms);
+        PlatformStore store = world.getPlatformStore();
+
         if (jumpCooldown > 0f) jumpCooldown -= dt;
         if (stunTime > 0f) stunTime -= dt;
 
-        handleJump(dt, space);
+        handleJump(dt, jumpHeld, jumpPressed);
 
-        handleHorizontal(dt, oldX, platforms, horizontalInput);
+        handleHorizontal(dt, oldX, store, horizontalInput);
 
-        handleVertical(dt, oldY, oldHeadY, platforms);
+        handleVertical(dt, oldY, oldHeadY, store);
 
         if (body.velocityX > 0.1f) facingRight = true;
         else if (body.velocityX < -0.1f) facingRight = false;
     }
 
-    private void handleJump(float dt, boolean space) {
+    private void handleJump(float dt, boolean space, boolean spacePressed) {
         if (isGrounded) {
             player.resetJumps();
         }
 
-        if (!isGrounded && !isCharging && Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (!isGrounded && !isCharging && spacePressed) {
             if (player.getMaxJumps() > 1 && player.getRemainingJumps() > 0) {
                 body.velocityY = 0;
                 body.velocityY = 650f;
                 player.useJump();
-                soundPlayer.playJump();
+                listener.jumped();
             }
         }
 
@@ -75,11 +86,11 @@ public class PlayerPhysicsProcessor {
             isGrounded = false;
             jumpCooldown = 0.15f;
             player.useJump();
-            soundPlayer.playJump();
+            listener.jumped();
         }
     }
 
-    private void handleHorizontal(float dt, float oldX, Array<Platform> platforms, float input) {
+    private void handleHorizontal(float dt, float oldX, PlatformStore store, float input) {
 
         if (isCharging || stunTime > 0f) {
             input = 0f; // Force input to 0 before applying it
@@ -98,28 +109,31 @@ public class PlayerPhysicsProcessor {
 
 // Wall Collision
 
-        for (Platform p : platforms) {
+        for (int n = 0; n < nearbyPlatforms.size; n++) {
             if (player.isGhost()) continue;
-            float topOfSlab = Math.max(p.y1, p.y2);
-            float bottomOfSlab = Math.min(p.y1, p.y2) - p.thickness;
+            int p = nearbyPlatforms.items[n];
+            float x1 = store.x1[p];
+            float x2 = store.x2[p];
+            float topOfSlab = store.top(p);
+            float bottomOfSlab = store.bottom(p);
 
             if (player.getY() < topOfSlab - 2f && (player.getY() + player.getHeight()) > bottomOfSlab + 2f) {
                 if(!isGrounded) {
-                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= p.x1 && (player.getX() + player.getWidth()) >= p.x1) {
-                        player.setX(p.x1 - player.getWidth());
+                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= x1 && (player.getX() + player.getWidth()) >= x1) {
+                        player.setX(x1 - player.getWidth());
                         body.velocityX *= 0f;
                         stunTime = 0.1f;
-                    } else if (body.velocityX < -0.1f && oldX >= p.x2 && player.getX() <= p.x2) {
-                        player.setX(p.x2);
+                    } else if (body.velocityX < -0.1f && oldX >= x2 && player.getX() <= x2) {
+                        player.setX(x2);
                         body.velocityX *= 0f;
                         stunTime = 0.1f;
                     }
                 } else if (Math.abs(body.velocityY) < 1f) {
-                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= p.x1 && (player.getX() + player.getWidth()) >= p.x1) {
-                        player.setX(p.x1 - player.getWidth());
+                    if (body.velocityX > 0 && (oldX + player.getWidth()) <= x1 && (player.getX() + player.getWidth()) >= x1) {
+                        player.setX(x1 - player.getWidth());
                         body.velocityX = 0f;
-                    } else if (body.velocityX < -0.1f && oldX >= p.x2 && player.getX() <= p.x2) {
-                        player.setX(p.x2);
+                    } else if (body.velocityX < -0.1f && oldX >= x2 && player.getX() <= x2) {
+                        player.setX(x2);
                         body.velocityX = 0f;
                     }
                 }
@@ -128,7 +142,7 @@ public class PlayerPhysicsProcessor {
         }
     }
 
-    private void handleVertical(float dt, float oldY, float oldHeadY, Array<Platform> platforms) {
+    private void handleVertical(float dt, float oldY, float oldHeadY, PlatformStore store) {
         if (!isGrounded) body.applyGravity(dt);
         player.moveBy(0, body.velocityY * dt);
 
@@ -145,11 +159,14 @@ public class PlayerPhysicsProcessor {
         float footY = player.getY();
         float headY = footY + player.getHeight();
 
-        float[] checkPointsX = { player.getX() + 2f, player.getX() + player.getWidth() / 2f, player.getX() + player.getWidth() - 2f };
+        checkPointsX[0] = player.getX() + 2f;
+        checkPointsX[1] = player.getX() + player.getWidth() / 2f;
+        checkPointsX[2] = player.getX() + player.getWidth() - 2f;
 
-        for (Platform p : platforms) {
+        for (int n = 0; n < nearbyPlatforms.size; n++) {
+            int p = nearbyPlatforms.items[n];
             for (float x : checkPointsX) {
-                float surfaceY = p.getSurfaceY(x);
+                float surfaceY = store.getSurfaceY(p, x);
                 if (surfaceY != -1) {
                     if (body.velocityY <= 0 && oldY >= surfaceY - 5f && footY <= surfaceY + 2f) {
                         player.setY(surfaceY);
@@ -161,9 +178,9 @@ public class PlayerPhysicsProcessor {
 
                     if (player.isGhost()) continue;
 
-                    float bottomY = surfaceY - p.thickness;
+                    float bottomY = surfaceY - store.thickness[p];
                     if (body.velocityY > 0 && oldHeadY <= bottomY + 5f && headY >= bottomY) {
-                        if (x >= p.x1 && x <= p.x2) {
+                        if (x >= store.x1[p] && x <= store.x2[p]) {
                             player.setY(bottomY - player.getHeight() - 1f);
                             body.velocityY = 0;
                             break;
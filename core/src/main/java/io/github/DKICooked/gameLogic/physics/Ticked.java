@@ -0,0 +1,15 @@
+package io.github.DKICooked.gameLogic.physics;
+
+/**
+ * Something moved by the {@link FixedStepScheduler} rather than by {@code Actor.act}.
+ * Each frame runs {@link #beginTicks()}, zero or more {@link #tick(float)} calls, then {@link #endTicks(float)}.
+ */
+public interface Ticked {
+    /** Moves back onto the simulated position, undoing the blend applied for the last frame. */
+    void beginTicks();
+
+    void tick(float dt);
+
+    /** Blends between the last two tick positions for drawing; {@code alpha} runs from 0 to 1. */
+    void endTicks(float alpha);
+}
@@ -0,0 +1,43 @@
+package io.github.DKICooked.gameLogic.physics;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+/**
+ * Simulated and drawn position of one {@link Ticked} actor.
+ * Between frames the actor sits at a blend of its last two tick positions. If anything outside the
+ * simulation moves it in the meantime (a spawn, the death animation), that position is adopted as-is.
+ */
+public class TickedPosition {
+    public float prevX, prevY; // before the latest tick
+    private float simX, simY;
+    private float drawnX = Float.NaN, drawnY = Float.NaN;
+
+    /** Takes the actor's current position as both ticks, e.g. after placing a pooled actor. */
+    public void reset(Actor actor) {
+        prevX = simX = drawnX = actor.getX();
+        prevY = simY = drawnY = actor.getY();
+    }
+
+    public void begin(Actor actor) {
+        if (actor.getX() != drawnX || actor.getY() != drawnY) {
+            reset(actor); // Moved from outside the simulation
+        } else {
+            actor.setPosition(simX, simY);
+        }
+    }
+
+    /** Call at the start of every tick, before the actor moves. */
+    public void beforeTick(Actor actor) {
+        prevX = actor.getX();
+        prevY = actor.getY();
+    }
+
+    public void end(Actor actor, float alpha) {
+        simX = actor.getX();
+        simY = actor.getY();
+        drawnX = MathUtils.lerp(prevX, simX, alpha);
+        drawnY = MathUtils.lerp(prevY, simY, alpha);
+        actor.setPosition(drawnX, drawnY);
+    }
+}
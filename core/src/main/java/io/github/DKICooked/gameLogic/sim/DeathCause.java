@@ -0,0 +1,7 @@
+package io.github.DKICooked.gameLogic.sim;
+
+/**
+ * What ended a climb; {@link #NONE} while it is still going. {@link #GAVE_UP} is a climb the player quit
+ * from the pause menu, which ended without a death. New causes go at the end: run files store the ordinal.
+ */
+public enum DeathCause { NONE, FELL, ASTEROID, UFO, GAVE_UP }
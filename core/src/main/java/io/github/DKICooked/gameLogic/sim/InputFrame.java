@@ -0,0 +1,35 @@
+package io.github.DKICooked.gameLogic.sim;
+
+/**
+ * The buttons held during one simulation tick. The screen fills one from the keyboard each frame;
+ * headless runs build them from a bot or a recording. Presses are derived by {@link Simulation}
+ * from consecutive frames, so a frame only ever records what is held.
+ */
+public final class InputFrame {
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP = 1 << 2;
+    public static final int BITS = 3; // buttons fit in the low bits of an int
+
+    private int buttons;
+
+    public InputFrame set(int buttons) {
+        this.buttons = buttons & ((1 << BITS) - 1);
+        return this;
+    }
+
+    public InputFrame set(boolean left, boolean right, boolean jump) {
+        return set((left ? LEFT : 0) | (right ? RIGHT : 0) | (jump ? JUMP : 0));
+    }
+
+    public int getButtons() { return buttons; }
+
+    /** -1, 0 or 1. Right wins when both directions are held, as it always has on the keyboard. */
+    public float getMoveDirection() {
+        if ((buttons & RIGHT) != 0) return 1;
+        if ((buttons & LEFT) != 0) return -1;
+        return 0;
+    }
+
+    public boolean isJumpHeld() { return (buttons & JUMP) != 0; }
+}
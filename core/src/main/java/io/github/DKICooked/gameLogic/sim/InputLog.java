@@ -0,0 +1,193 @@
+package io.github.DKICooked.gameLogic.sim;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Everything needed to re-run a climb: the seed, character and tick it was simulated with, plus the
+ * buttons held on every tick. Buttons change rarely next to a 180 Hz tick, so the frames are stored as
+ * runs: {@link InputFrame#BITS} bits of buttons followed by the run length as an Exp-Golomb code, all
+ * packed into one bit stream. A 30 minute climb with a few changes a second comes to around 10 KB,
+ * and most climbs are a fraction of that. {@link #score} is what the run claimed, for {@link Replay#verify}.
+ */
+public class InputLog {
+    private static final int MAGIC = 0x444B4952; // "DKIR"
+    private static final int VERSION = 1;
+
+    public final long seed;
+    public final String character;
+    public final float tick;
+    public final long ticks;
+    public final int score;
+    private final byte[] bits;
+    private final long bitLength;
+
+    private InputLog(long seed, String character, float tick, long ticks, int score, byte[] bits, long bitLength) {
+        this.seed = seed;
+        this.character = character;
+        this.tick = tick;
+        this.ticks = ticks;
+        this.score = score;
+        this.bits = bits;
+        this.bitLength = bitLength;
+    }
+
+    /** Size of the packed frames in bytes, excluding the header. */
+    public int getPackedSize() {
+        return bits.length;
+    }
+
+    /** Starts reading the frames back from the first tick. */
+    public Cursor frames() {
+        return new Cursor();
+    }
+
+    public void write(FileHandle file) {
+        DataOutputStream out = new DataOutputStream(file.write(false, 4096));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeUTF(character);
+            out.writeFloat(tick);
+            out.writeLong(ticks);
+            out.writeInt(score);
+            out.writeLong(bitLength);
+            out.write(bits);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write input log " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public static InputLog read(FileHandle file) {
+        DataInputStream in = new DataInputStream(file.read(4096));
+        try {
+            if (in.readInt() != MAGIC) throw new GdxRuntimeException(file + " is not an input log");
+            int version = in.readUnsignedByte();
+            if (version != VERSION) throw new GdxRuntimeException(file + " has unsupported version " + version);
+            long seed = in.readLong();
+            String character = in.readUTF();
+            float tick = in.readFloat();
+            long ticks = in.readLong();
+            int score = in.readInt();
+            long bitLength = in.readLong();
+            byte[] bits = new byte[(int) ((bitLength + 7) / 8)];
+            in.readFully(bits);
+            return new InputLog(seed, character, tick, ticks, score, bits, bitLength);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read input log " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Packs frames as they are simulated. Call {@link #record} with the same frame passed to each
+     * {@link Simulation#step}, then {@link #finish} once the climb ends.
+     */
+    public static class Recorder {
+        private final long seed;
+        private final String character;
+        private final float tick;
+        private byte[] bits = new byte[256];
+        private long bitLength = 0;
+        private long ticks = 0;
+        private int runButtons = -1;
+        private long runLength = 0;
+
+        /** Records a climb of {@code sim}, which must not have been stepped yet. */
+        public Recorder(Simulation sim) {
+            this.seed = sim.getSeed();
+            this.character = sim.getCharacter();
+            this.tick = sim.getTick();
+        }
+
+        public void record(InputFrame frame) {
+            int buttons = frame.getButtons();
+            if (buttons != runButtons) {
+                flushRun();
+                runButtons = buttons;
+            }
+            runLength++;
+            ticks++;
+        }
+
+        public long getTicks() { return ticks; }
+
+        /** Closes the last run; the recorder keeps going, so this can be called mid-climb for a snapshot. */
+        public InputLog finish(int score) {
+            long savedLength = bitLength, savedRun = runLength;
+            flushRun();
+            InputLog log = new InputLog(seed, character, tick, ticks, score,
+                Arrays.copyOf(bits, (int) ((bitLength + 7) / 8)), bitLength);
+            bitLength = savedLength; // the open run may still grow
+            runLength = savedRun;
+            return log;
+        }
+
+        private void flushRun() {
+            if (runLength == 0) return;
+            writeBits(runButtons, InputFrame.BITS);
+            // Exp-Golomb: n as (k zeros, then n's k + 1 significant bits), so short runs stay short
+            int k = 63 - Long.numberOfLeadingZeros(runLength);
+            writeBits(0, k);
+            writeBits(runLength, k + 1);
+            runLength = 0;
+        }
+
+        private void writeBits(long value, int count) {
+            for (int i = count - 1; i >= 0; i--) {
+                int index = (int) (bitLength >>> 3);
+                if (index == bits.length) bits = Arrays.copyOf(bits, bits.length * 2);
+                int bit = 7 - (int) (bitLength & 7);
+                if (((value >>> i) & 1) != 0) bits[index] |= (byte) (1 << bit);
+                else bits[index] &= (byte) ~(1 << bit);
+                bitLength++;
+            }
+        }
+    }
+
+    /** Walks the frames of a log in tick order. */
+    public class Cursor {
+        private long position = 0;
+        private long ticksLeft = ticks;
+        private int runButtons;
+        private long runLeft = 0;
+
+        public boolean hasNext() {
+            return ticksLeft > 0;
+        }
+
+        /** Fills {@code frame} with the next tick's buttons. */
+        public InputFrame next(InputFrame frame) {
+            if (ticksLeft == 0) throw new GdxRuntimeException("Input log ended after " + ticks + " ticks");
+            if (runLeft == 0) {
+                runButtons = (int) readBits(InputFrame.BITS);
+                int k = 0;
+                while (readBits(1) == 0) k++;
+                runLeft = (1L << k) | readBits(k);
+            }
+            runLeft--;
+            ticksLeft--;
+            return frame.set(runButtons);
+        }
+
+        private long readBits(int count) {
+            if (position + count > bitLength) throw new GdxRuntimeException("Input log is truncated");
+            long value = 0;
+            for (int i = 0; i < count; i++, position++) {
+                int bit = (bits[(int) (position >>> 3)] >>> (7 - (int) (position & 7))) & 1;
+                value = (value << 1) | bit;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package io.github.DKICooked.gameLogic.sim;
+
+/** The hazard phase a climb is in; raids take turns with calm stretches as the player climbs. */
+public enum Raid { NONE, ASTEROIDS, UFO, MAGNETIC_STORM }
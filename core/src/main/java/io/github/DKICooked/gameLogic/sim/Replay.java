@@ -0,0 +1,34 @@
+package io.github.DKICooked.gameLogic.sim;
+
+/**
+ * Re-simulates a recorded climb from its {@link InputLog}. The simulation draws every random roll from
+ * the seed and only sees the logged frames, so the replay lands on exactly the state the climb ended in,
+ * whatever frame rate it was originally played at.
+ */
+public final class Replay {
+    private Replay() {}
+
+    /** Runs the whole log headless and returns the simulation as it stands after the last tick; dispose it when done. */
+    public static Simulation run(InputLog log) {
+        return run(log, log.ticks);
+    }
+
+    /** Runs the first {@code ticks} ticks of the log, e.g. to stop just before a reported glitch. */
+    public static Simulation run(InputLog log, long ticks) {
+        Simulation sim = new Simulation(log.seed, log.character, log.tick, null, SimulationListener.NONE);
+        InputFrame frame = new InputFrame();
+        InputLog.Cursor frames = log.frames();
+        for (long t = 0; t < ticks && frames.hasNext(); t++) sim.step(frames.next(frame));
+        return sim;
+    }
+
+    /** True if replaying the log reaches the score it claims. */
+    public static boolean verify(InputLog log) {
+        Simulation sim = run(log);
+        try {
+            return sim.getRecordHeight() == log.score;
+        } finally {
+            sim.dispose();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package io.github.DKICooked.gameLogic.sim;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.DKICooked.entities.AsteroidActor;
+import io.github.DKICooked.entities.AsteroidManager;
+import io.github.DKICooked.entities.Collidable;
+import io.github.DKICooked.entities.GameAtlas;
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.entities.PlayerActor;
+import io.github.DKICooked.entities.PowerUpActor;
+import io.github.DKICooked.entities.PowerUpManager;
+import io.github.DKICooked.entities.UfoManager;
+import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.HazardBroadphase;
+import io.github.DKICooked.gameLogic.physics.Ticked;
+
+/**
+ * One climb, advanced one fixed tick at a time from explicit {@link InputFrame}s: the tower, the player's
+ * physics, raids, power-ups and the score. Nothing here reads {@code Gdx.input} or touches GL, so the same
+ * climb runs inside {@code GameScreen} or headless, as fast as the CPU allows.
+ * Every random choice comes from the seed, so a seed and the same frames replay the same climb.
+ * Climbs share libGDX's global action pools, so run them all on one thread.
+ */
+public class Simulation implements Disposable {
+    public enum State { PLAYING, DYING, OVER }
+
+    public static final float DEATH_DURATION = 1.5f;
+    private static final float RAID_START_HEIGHT = 1500f;
+    private static final float RAID_LENGTH = 2000f; // climbed while a raid lasts
+    private static final float BREATHER_DISTANCE = 1500f; // Distance of the "Breather"
+    private static final float STUCK_THRESHOLD = 20f; // 20 seconds
+    private static final Raid[] RAIDS = { Raid.ASTEROIDS, Raid.UFO, Raid.MAGNETIC_STORM };
+    private static final int ACTOR_CAPACITY = 64; // more than a raid ever has on screen, so the group never grows mid-raid
+
+    private final long seed;
+    private final String character;
+    private final float tick;
+    private final RandomXS128 random;
+    private final SimulationListener listener;
+
+    private final Group actors = new Group();
+    private final WorldManager world;
+    private final PlayerActor player;
+    private final AsteroidManager asteroidManager;
+    private final UfoManager ufoManager;
+    private final PowerUpManager powerUpManager;
+    private final HazardBroadphase hazards = new HazardBroadphase();
+
+    private State state = State.PLAYING;
+    private long ticks = 0;
+    private float deathTimer = 0f;
+    private boolean jumpWasHeld = false;
+
+    private int highestChunkReached = 0;
+    private int powerUpScanChunk = -1; // chunk whose active platforms were last searched for power-ups
+    private int recordHeight = 0;
+
+    private Raid activeRaid = Raid.NONE;
+    private float raidEndHeight = 0;
+    private float nextAnomalyMinHeight = 0; // The player must reach this height before a new raid can start
+
+    private float stuckTimer = 0;
+    private float lastRecordedHeight = 0;
+    private boolean pitySpawned = false;
+
+    // What the run history keeps about the climb
+    private int raidsStarted = 0, raidsSurvived = 0, pitySpawns = 0;
+    private DeathCause deathCause = DeathCause.NONE;
+    private Raid deathRaid = Raid.NONE;
+    private int deathHeight = 0;
+    private long deathTick = 0;
+
+    /**
+     * @param atlas sprites for the hazards and power-ups, or null to run without any art
+     * @param tick seconds per {@link #step}
+     */
+    public Simulation(long seed, String character, float tick, GameAtlas atlas, SimulationListener listener) {
+        this.seed = seed;
+        this.character = character;
+        this.tick = tick;
+        this.random = new RandomXS128(seed);
+        this.listener = listener;
+
+        world = new WorldManager(seed);
+        actors.getChildren().ensureCapacity(ACTOR_CAPACITY);
+
+        Animation<TextureRegion> ufoAnim = null;
+        if (atlas != null) {
+            ufoAnim = new Animation<>(0.3f, atlas.region("ufoH1"), atlas.region("ufoH2"));
+            ufoAnim.setPlayMode(Animation.PlayMode.LOOP);
+        }
+        asteroidManager = new AsteroidManager(atlas == null ? null : atlas.region("asteroid"), random, hazards);
+        ufoManager = new UfoManager(ufoAnim, random, hazards);
+        powerUpManager = new PowerUpManager(
+            atlas == null ? null : atlas.region("GhostPowerUp"),
+            atlas == null ? null : atlas.region("UfoPowerUp"));
+
+        player = new PlayerActor(listener);
+        player.setSize(40, 60);
+        player.setPosition(400, 150);
+        player.setWorld(world);
+        player.initStats(character);
+        actors.addActor(player);
+    }
+
+    /** Advances the climb by one tick with {@code input} held. Does nothing once the climb is over. */
+    public void step(InputFrame input) {
+        if (state == State.OVER) return;
+        float dt = tick;
+        ticks++;
+
+        boolean jumpHeld = input.isJumpHeld();
+        boolean jumpPressed = jumpHeld && !jumpWasHeld;
+        jumpWasHeld = jumpHeld;
+
+        if (state == State.PLAYING) {
+            world.update(player.getY());
+
+            int currentChunk = world.getCurrentChunk();
+            if (currentChunk > highestChunkReached) highestChunkReached = currentChunk;
+            if (highestChunkReached > 0 && currentChunk < highestChunkReached - 1) startDeathSequence(DeathCause.FELL);
+
+            float moveDir = input.getMoveDirection();
+            if (activeRaid == Raid.MAGNETIC_STORM) moveDir *= -1;
+            player.setInput(moveDir, jumpHeld, jumpPressed);
+
+            int currentHeight = (int) (player.getY() / 100f);
+            if (currentHeight > recordHeight) recordHeight = currentHeight;
+        } else if (state == State.DYING) {
+            deathTimer += dt;
+            float bounce = (float) Math.sin(deathTimer * 5) * 50f;
+            float fall = 300f * deathTimer;
+            player.setY(player.getY() + (bounce * (1 - deathTimer)) - (fall * dt));
+            player.rotateBy(400 * dt);
+
+            if (deathTimer >= DEATH_DURATION) state = State.OVER;
+        }
+
+        if (Math.abs(player.getY() - lastRecordedHeight) < 50f) {
+            stuckTimer += dt;
+        } else {
+            // Player moved up! Reset everything
+            stuckTimer = 0;
+            lastRecordedHeight = player.getY();
+            pitySpawned = false;
+        }
+
+        // If stuck for 20 seconds and we haven't given them a gift yet...
+        if (stuckTimer >= STUCK_THRESHOLD && !pitySpawned) {
+            spawnPityPowerUp();
+            pitySpawns++;
+            pitySpawned = true; // Only spawn one per "stuck" session
+        }
+
+        collectPowerUps();
+
+        float viewBottom = world.getCurrentChunk() * WorldManager.CHUNK_HEIGHT;
+        asteroidManager.setViewBottom(viewBottom);
+        player.tick(dt);
+        tick(asteroidManager.getLive(), dt);
+        tick(ufoManager.getLive(), dt);
+        if (activeRaid != Raid.NONE) checkCollisions();
+        actors.act(dt);
+
+        if (state == State.PLAYING) {
+            updateRaids(dt, viewBottom);
+            checkAndSpawnPowerUps();
+        }
+    }
+
+    private void tick(Array<? extends Ticked> entities, float dt) {
+        // Walk backwards: a hazard leaving the screen despawns mid-tick
+        for (int i = entities.size - 1; i >= 0; i--) entities.get(i).tick(dt);
+    }
+
+    /** Moves the player and hazards back onto their simulated positions before a frame's ticks. */
+    public void beginTicks() {
+        player.beginTicks();
+        beginTicks(asteroidManager.getLive());
+        beginTicks(ufoManager.getLive());
+    }
+
+    /** Blends the player and hazards between their last two ticks for drawing. */
+    public void endTicks(float alpha) {
+        player.endTicks(alpha);
+        endTicks(asteroidManager.getLive(), alpha);
+        endTicks(ufoManager.getLive(), alpha);
+    }
+
+    private void beginTicks(Array<? extends Ticked> entities) {
+        for (int i = 0; i < entities.size; i++) entities.get(i).beginTicks();
+    }
+
+    private void endTicks(Array<? extends Ticked> entities, float alpha) {
+        for (int i = 0; i < entities.size; i++) entities.get(i).endTicks(alpha);
+    }
+
+    private void collectPowerUps() {
+        // Walk backwards: despawning removes the item from the live list
+        Array<PowerUpActor> powerUps = powerUpManager.getLive();
+        Rectangle playerRect = player.getCollisionRect();
+        for (int i = powerUps.size - 1; i >= 0; i--) {
+            PowerUpActor item = powerUps.get(i);
+
+            if (item.overlaps(playerRect)) {
+                player.activePowerUp(item.getType());
+                item.despawn();
+            } else if (item.getY() < player.getY() - 800) {
+                // If the item is 800 pixels below the player, delete it to save memory
+                item.despawn();
+            }
+        }
+    }
+
+    private void checkCollisions() {
+        if (state != State.PLAYING || player.isGhost()) return;
+
+        // The hazards keep the broadphase current as they tick, so this is only the query
+        Collidable hit = hazards.findHit(player.getCollisionRect());
+        if (hit != null) {
+            startDeathSequence(hit instanceof AsteroidActor ? DeathCause.ASTEROID : DeathCause.UFO);
+        }
+    }
+
+    private void startDeathSequence(DeathCause cause) {
+        recordEnd(cause);
+        state = State.DYING;
+        activeRaid = Raid.NONE;
+        player.setInput(0, false, false);
+        player.setDead(true);
+        player.clearActions();
+        player.setOrigin(player.getWidth() / 2f, player.getHeight() / 2f);
+    }
+
+    /** Ends the climb where it stands, as when the player gives up from the pause menu. */
+    public void giveUp() {
+        if (state != State.PLAYING) return;
+        recordEnd(DeathCause.GAVE_UP);
+        activeRaid = Raid.NONE;
+        state = State.OVER;
+    }
+
+    private void recordEnd(DeathCause cause) {
+        deathCause = cause;
+        deathRaid = activeRaid;
+        deathHeight = (int) (player.getY() / 100f);
+        deathTick = ticks;
+    }
+
+    private void updateRaids(float dt, float viewBottom) {
+        float py = player.getY();
+        if (activeRaid == Raid.NONE && py >= RAID_START_HEIGHT && py >= nextAnomalyMinHeight) {
+            activeRaid = RAIDS[random.nextInt(RAIDS.length)];
+            raidsStarted++;
+            raidEndHeight = py + RAID_LENGTH;
+            listener.raidStarted(activeRaid);
+        }
+
+        if (activeRaid == Raid.ASTEROIDS) asteroidManager.update(dt, py, actors);
+        else if (activeRaid == Raid.UFO) ufoManager.update(dt, viewBottom, actors);
+
+        // Check if the raid should END
+        if (activeRaid != Raid.NONE && py >= raidEndHeight) {
+            activeRaid = Raid.NONE;
+            raidsSurvived++;
+            ufoManager.stop();
+            // The next raid cannot start until the player climbs another 1500 units
+            nextAnomalyMinHeight = py + BREATHER_DISTANCE;
+        }
+    }
+
+    private void checkAndSpawnPowerUps() {
+        // The active platforms only change with the chunk, and a spawned power-up is cleared from its platform
+        if (world.getCurrentChunk() == powerUpScanChunk) return;
+        powerUpScanChunk = world.getCurrentChunk();
+
+        PlatformStore store = world.getPlatformStore();
+        IntArray active = world.getActivePlatforms();
+        for (int i = 0; i < active.size; i++) {
+            int p = active.items[i];
+            if (store.powerUp[p] != PlatformStore.NO_POWER_UP) {
+                float centerX = (store.x1[p] + store.x2[p]) / 2f;
+                float spawnX = centerX - 16; // Assuming 32px wide power-up
+                float spawnY = store.y1[p] + 8;
+
+                powerUpManager.spawn(store.getPowerUp(p), spawnX, spawnY, actors);
+                store.setPowerUp(p, null);
+            }
+        }
+    }
+
+    private void spawnPityPowerUp() {
+        PlatformStore store = world.getPlatformStore();
+        IntArray active = world.getActivePlatforms();
+        int targetPlatform = -1;
+        float closestDist = Float.MAX_VALUE;
+
+        // 1. Find the best platform ABOVE the player
+        for (int i = 0; i < active.size; i++) {
+            int p = active.items[i];
+            float dist = store.y1[p] - player.getY();
+            // Look for platforms between 0 and 400 pixels above the player
+            if (dist > 0 && dist < 400 && dist < closestDist) {
+                closestDist = dist;
+                targetPlatform = p;
+            }
+        }
+
+        // 2. Decide what to spawn
+        PowerUpActor.Type type = random.nextBoolean() ? PowerUpActor.Type.GHOST : PowerUpActor.Type.UFO_RIDE;
+        PowerUpActor pUp;
+
+        if (targetPlatform != -1) {
+            // Option A: Found a platform! Place it there.
+            float centerX = (store.x1[targetPlatform] + store.x2[targetPlatform]) / 2f;
+            pUp = powerUpManager.spawn(type, centerX - 16, store.y1[targetPlatform] + 15, actors);
+        } else {
+            // Option B: No platform found? Spawn it in the air above the player.
+            pUp = powerUpManager.spawn(type, player.getX(), player.getY() + 250, actors);
+        }
+
+        // 3. Apply the "Bounce In" animation
+        pUp.setScale(0); // Start tiny
+        pUp.addAction(Actions.scaleTo(1, 1, 0.6f, Interpolation.bounceOut));
+    }
+
+    public State getState() { return state; }
+    public boolean isOver() { return state == State.OVER; }
+    public Raid getActiveRaid() { return activeRaid; }
+    /** Best height reached, in metres. */
+    public int getRecordHeight() { return recordHeight; }
+    public long getTicks() { return ticks; }
+    public float getTick() { return tick; }
+    public long getSeed() { return seed; }
+    public String getCharacter() { return character; }
+    public int getHighestChunkReached() { return highestChunkReached; }
+    public int getRaidsStarted() { return raidsStarted; }
+    public int getRaidsSurvived() { return raidsSurvived; }
+    public int getPitySpawns() { return pitySpawns; }
+    public DeathCause getDeathCause() { return deathCause; }
+    /** The raid under way when the player died or gave up, or {@link Raid#NONE}. */
+    public Raid getDeathRaid() { return deathRaid; }
+    /** Height in meters where the player died or gave up, which can be below {@link #getRecordHeight()}. */
+    public int getDeathHeight() { return deathHeight; }
+    /** Ticks from the start of the climb to the death or giving up, not counting the fall animation. */
+    public long getDeathTick() { return deathTick; }
+
+    public PlayerActor getPlayer() { return player; }
+    public WorldManager getWorld() { return world; }
+
+    /** The player, hazards and power-ups; add it to a stage to draw them. */
+    public Group getActors() { return actors; }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.DKICooked.gameLogic.sim;
+
+/**
+ * Moments in a climb that something outside the simulation reacts to, such as playing a sound.
+ * Every method defaults to doing nothing, so headless runs can pass {@link #NONE}.
+ */
+public interface SimulationListener {
+    SimulationListener NONE = new SimulationListener() {};
+
+    default void jumped() {}
+
+    default void raidStarted(Raid raid) {}
+}
@@ -0,0 +1,170 @@
+package io.github.DKICooked.profiling;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Where the frame goes. Each named {@link Phase} times itself with {@code System.nanoTime()} and keeps a
+ * {@link Histogram} for the whole session, so timing is always on and costs two clock reads per phase.
+ * The overlay only decides whether a screen shows the summary; {@link #dump} writes it all out on exit.
+ */
+public class Profiler {
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private final Array<Phase> phases = new Array<>();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final long startGcCount, startGcTime;
+    private boolean overlayVisible = false;
+
+    public Profiler() {
+        startGcCount = totalGcCount();
+        startGcTime = totalGcTime();
+    }
+
+    /** The phase called {@code name}, created on first use; a screen opened again keeps adding to the same one. */
+    public Phase phase(String name) {
+        for (int i = 0; i < phases.size; i++) {
+            if (phases.get(i).name.equals(name)) return phases.get(i);
+        }
+        Phase phase = new Phase(name);
+        phases.add(phase);
+        return phase;
+    }
+
+    public void toggleOverlay() { overlayVisible = !overlayVisible; }
+    public boolean isOverlayVisible() { return overlayVisible; }
+
+    /** Collections since the profiler was created, across every collector. */
+    public long getGcCount() { return totalGcCount() - startGcCount; }
+    public long getGcTime() { return totalGcTime() - startGcTime; }
+
+    private long totalGcCount() {
+        long total = 0;
+        for (int i = 0; i < collectors.size(); i++) total += Math.max(0, collectors.get(i).getCollectionCount());
+        return total;
+    }
+
+    private long totalGcTime() {
+        long total = 0;
+        for (int i = 0; i < collectors.size(); i++) total += Math.max(0, collectors.get(i).getCollectionTime());
+        return total;
+    }
+
+    /** Appends one "name p50 p99 max" line per phase in milliseconds, then the GC count, without allocating. */
+    public void appendSummary(StringBuilder out) {
+        for (int i = 0; i < phases.size; i++) {
+            Phase phase = phases.get(i);
+            Histogram h = phase.histogram;
+            out.append(phase.name).append("  p50 ");
+            appendMillis(out, h.percentile(0.5));
+            out.append("  p99 ");
+            appendMillis(out, h.percentile(0.99));
+            out.append("  max ");
+            appendMillis(out, h.getMax());
+            out.append(" ms\n");
+        }
+        out.append("gc ").append(getGcCount()).append(" (").append(getGcTime()).append(" ms)");
+    }
+
+    private static void appendMillis(StringBuilder out, long nanos) {
+        long hundredths = (nanos + 5_000) / 10_000;
+        out.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) out.append('0');
+        out.append(fraction);
+    }
+
+    /**
+     * Writes the session to {@code profile-<time>.csv} (one summary row per phase) and a matching
+     * {@code .json} that also holds every non-empty bucket, both in {@code directory}. Times are in nanoseconds.
+     */
+    public void dump(FileHandle directory) {
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        writeCsv(directory.child("profile-" + stamp + ".csv"));
+        writeJson(directory.child("profile-" + stamp + ".json"));
+    }
+
+    private void writeCsv(FileHandle file) {
+        StringBuilder csv = new StringBuilder("phase,count,mean_ns,p50_ns,p90_ns,p99_ns,max_ns\n");
+        for (Phase phase : phases) {
+            Histogram h = phase.histogram;
+            csv.append(phase.name).append(',').append(h.getCount()).append(',').append(h.getMean());
+            for (double q : QUANTILES) csv.append(',').append(h.percentile(q));
+            csv.append(',').append(h.getMax()).append('\n');
+        }
+        file.writeString(csv.toString(), false, "UTF-8");
+    }
+
+    private void writeJson(FileHandle file) {
+        Writer writer = file.writer(false, "UTF-8");
+        try {
+            JsonWriter json = new JsonWriter(writer);
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.object().set("gcCount", getGcCount()).set("gcTimeMs", getGcTime()).array("phases");
+            for (Phase phase : phases) {
+                Histogram h = phase.histogram;
+                json.object()
+                    .set("name", phase.name)
+                    .set("count", h.getCount())
+                    .set("meanNs", h.getMean())
+                    .set("p50Ns", h.percentile(0.5))
+                    .set("p90Ns", h.percentile(0.9))
+                    .set("p99Ns", h.percentile(0.99))
+                    .set("maxNs", h.getMax())
+                    .array("buckets"); // [lowest ns, highest ns, samples]
+                for (int b = 0; b < Histogram.BUCKETS; b++) {
+                    long samples = h.getBucketCount(b);
+                    if (samples == 0) continue;
+                    json.array().value(Histogram.lowerBound(b)).value(Histogram.upperBound(b)).value(samples).pop();
+                }
+                json.pop().pop();
+            }
+            json.pop().pop();
+            json.flush();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write profile " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(writer);
+        }
+    }
+
+    /** One timed part of the frame. {@link #begin()} and {@link #end()} must pair up on the render thread. */
+    public static class Phase {
+        private final String name;
+        private final Histogram histogram = new Histogram();
+        private long start = -1;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public void begin() {
+            start = System.nanoTime();
+        }
+
+        public void end() {
+            if (start < 0) return; // Ended without a begin, e.g. the screen changed mid-phase
+            histogram.record(System.nanoTime() - start);
+            start = -1;
+        }
+
+        /** Adds a duration measured some other way, such as the frame interval. */
+        public void record(long nanos) {
+            histogram.record(nanos);
+        }
+
+        public String getName() { return name; }
+        public Histogram getHistogram() { return histogram; }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Full-screen raid effects in one pass.
+ * The frame is drawn into an off-screen buffer between {@link #capture()} and {@link #finish()}, then
+ * {@link #apply} draws it back as a single quad through a shader that adds the storm glitch bars,
+ * scanlines and vignette. However strong the effect, it costs one extra draw call.
+ */
+public class PostProcess implements Disposable {
+    private final ShaderProgram shader;
+    private FrameBuffer buffer;
+
+    public PostProcess() {
+        shader = new ShaderProgram(Gdx.files.internal("shaders/post.vert"), Gdx.files.internal("shaders/post.frag"));
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Post-process shader failed to compile:\n" + shader.getLog());
+        }
+    }
+
+    /** Redirects drawing into the off-screen buffer, sized to the window's back buffer. */
+    public void capture() {
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+            if (buffer != null) buffer.dispose();
+            buffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        }
+
+        // bind() rather than begin(): the buffer matches the window, so the stages' letterboxed viewport still fits
+        buffer.bind();
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    /** Sends drawing back to the window. */
+    public void finish() {
+        FrameBuffer.unbind();
+    }
+
+    /**
+     * Draws the captured frame into {@code viewport}'s world area.
+     * {@code glitch} and {@code vignette} run from 0 (off) to 1 (full strength).
+     */
+    public void apply(Batch batch, Viewport viewport, float glitch, float vignette) {
+        Texture frame = buffer.getColorBufferTexture();
+        float u = (float) viewport.getScreenX() / frame.getWidth();
+        float v = (float) viewport.getScreenY() / frame.getHeight();
+        float u2 = (float) (viewport.getScreenX() + viewport.getScreenWidth()) / frame.getWidth();
+        float v2 = (float) (viewport.getScreenY() + viewport.getScreenHeight()) / frame.getHeight();
+
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.setShader(shader);
+        batch.disableBlending();
+        batch.begin();
+        shader.setUniformf("u_viewport", viewport.getScreenX(), viewport.getScreenY(),
+            viewport.getScreenWidth(), viewport.getScreenHeight());
+        shader.setUniformf("u_seed", MathUtils.random(100f));
+        shader.setUniformf("u_glitch", glitch);
+        shader.setUniformf("u_vignette", vignette);
+        // FrameBuffer textures are stored bottom-up, which is exactly how these u/v pairs read
+        batch.draw(frame, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight(), u, v, u2, v2);
+        batch.end();
+        batch.enableBlending();
+        batch.setShader(null);
+    }
+
+    @Override
+    public void dispose() {
+        shader.dispose();
+        if (buffer != null) buffer.dispose();
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.Comparator;
+
+/**
+ * Collects a frame's drawing from every layer and plays it back through a single {@link Batch} session.
+ * Commands are sorted by layer, then grouped by texture within a layer, so the batch only flushes when the
+ * texture or the layer's camera actually changes. Draws whose stacking matters go in separate layers.
+ * {@link Pass}es (a SpriteCache, a framebuffer switch) need GL to themselves; the batch is ended around them.
+ */
+public class RenderQueue {
+    public enum Layer {
+        BACKDROP, PARALLAX, // screen space
+        TILES, WORLD, ACTORS, // world space
+        FX, HUD // screen space
+    }
+
+    /** Drawing through the queue's batch that is more than one quad, e.g. a Scene2D group. */
+    public interface BatchDraw {
+        void draw(Batch batch);
+    }
+
+    /** Drawing that drives GL itself; runs with the batch ended. */
+    public interface Pass {
+        void run();
+    }
+
+    private static final Layer[] LAYERS = Layer.values();
+    private static final Comparator<Command> ORDER = (a, b) -> {
+        if (a.layer != b.layer) return a.layer.ordinal() - b.layer.ordinal();
+        return Integer.compare(a.textureKey(), b.textureKey()); // Passes and BatchDraws lead their layer
+    };
+
+    private final Batch batch;
+    private final Matrix4[] projections = new Matrix4[LAYERS.length];
+    private final Array<Command> commands = new Array<>(false, 64);
+    private final Pool<Command> pool = new Pool<Command>() {
+        @Override
+        protected Command newObject() {
+            return new Command();
+        }
+    };
+    private float color = Color.WHITE_FLOAT_BITS;
+
+    public RenderQueue(Batch batch) {
+        this.batch = batch;
+    }
+
+    /** Camera matrix for {@code layer}. Held by reference, so a camera's {@code combined} only needs setting once. */
+    public void setProjection(Layer layer, Matrix4 projection) {
+        projections[layer.ordinal()] = projection;
+    }
+
+    /** Tint for the draws submitted after this call; reset to white by {@link #flush()}. */
+    public void setColor(float r, float g, float b, float a) {
+        color = Color.toFloatBits(r, g, b, a);
+    }
+
+    public void setColor(Color tint) {
+        color = tint.toFloatBits();
+    }
+
+    public void draw(Layer layer, TextureRegion region, float x, float y, float width, float height) {
+        draw(layer, region.getTexture(), x, y, width, height, region.getU(), region.getV2(), region.getU2(), region.getV());
+    }
+
+    /** Same texture coordinate convention as {@link Batch#draw(Texture, float, float, float, float, float, float, float, float)}. */
+    public void draw(Layer layer, Texture texture, float x, float y, float width, float height,
+                     float u, float v, float u2, float v2) {
+        Command command = add(layer);
+        command.texture = texture;
+        command.x = x;
+        command.y = y;
+        command.width = width;
+        command.height = height;
+        command.u = u;
+        command.v = v;
+        command.u2 = u2;
+        command.v2 = v2;
+    }
+
+    public void draw(Layer layer, BatchDraw draw) {
+        add(layer).batchDraw = draw;
+    }
+
+    public void pass(Layer layer, Pass pass) {
+        add(layer).pass = pass;
+    }
+
+    private Command add(Layer layer) {
+        Command command = pool.obtain();
+        command.layer = layer;
+        command.color = color;
+        commands.add(command);
+        return command;
+    }
+
+    /** Draws everything submitted this frame, in layer order, then empties the queue. */
+    public void flush() {
+        commands.sort(ORDER); // stable, so equal keys keep submission order
+
+        Matrix4 current = null;
+        for (Command command : commands) {
+            if (command.pass != null) {
+                if (batch.isDrawing()) batch.end();
+                command.pass.run();
+                current = null; // passes may leave their own projection on the batch
+                continue;
+            }
+
+            Matrix4 projection = projections[command.layer.ordinal()];
+            if (projection != current) {
+                batch.setProjectionMatrix(projection);
+                current = projection;
+            }
+            if (!batch.isDrawing()) batch.begin();
+
+            batch.setPackedColor(command.color);
+            if (command.batchDraw != null) {
+                command.batchDraw.draw(batch);
+            } else {
+                batch.draw(command.texture, command.x, command.y, command.width, command.height,
+                    command.u, command.v, command.u2, command.v2);
+            }
+        }
+        if (batch.isDrawing()) batch.end();
+        batch.setPackedColor(Color.WHITE_FLOAT_BITS);
+
+        pool.freeAll(commands);
+        commands.clear();
+        color = Color.WHITE_FLOAT_BITS;
+    }
+
+    private static class Command implements Pool.Poolable {
+        Layer layer;
+        float color;
+        Texture texture;
+        float x, y, width, height, u, v, u2, v2;
+        BatchDraw batchDraw;
+        Pass pass;
+
+        int textureKey() {
+            return texture == null ? -1 : texture.getTextureObjectHandle();
+        }
+
+        @Override
+        public void reset() {
+            texture = null;
+            batchDraw = null;
+            pass = null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.DKICooked.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+/**
+ * Per-frame GL counters, so a change that adds draw calls or texture binds shows up on screen.
+ * Off by default: the profiler wraps every GL call while enabled.
+ */
+public class RenderStats {
+    private final GLProfiler profiler = new GLProfiler(Gdx.graphics);
+    private int drawCalls, textureBindings, shaderSwitches;
+
+    public boolean isEnabled() {
+        return profiler.isEnabled();
+    }
+
+    public void toggle() {
+        if (profiler.isEnabled()) {
+            profiler.disable();
+        } else {
+            profiler.enable();
+            profiler.reset();
+        }
+    }
+
+    /** Latches the counts for the frame just drawn and starts counting the next one. */
+    public void endFrame() {
+        if (!profiler.isEnabled()) return;
+        drawCalls = profiler.getDrawCalls();
+        textureBindings = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        profiler.reset();
+    }
+
+    public int getDrawCalls() { return drawCalls; }
+    public int getTextureBindings() { return textureBindings; }
+    public int getShaderSwitches() { return shaderSwitches; }
+}
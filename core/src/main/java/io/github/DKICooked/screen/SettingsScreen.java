@@ -4,7 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -13,6 +13,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
 import io.github.DKICooked.audio.SoundPlayer;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
@@ -20,6 +21,7 @@ import io.github.DKICooked.screen.main.MainMenuScreen;
 public class SettingsScreen extends BaseScreen {
     private final Main main;
     private final Stage uiStage;
+    private static final FontKey FONT = FontKey.plain(26);
     private BitmapFont font;
     private Skin sliderSkin;;
 
@@ -41,23 +43,19 @@ public class SettingsScreen extends BaseScreen {
 
 
     private void setupFont() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf")); //
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 26;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
-        generator.dispose(); //
+        font = main.fonts.acquire(FONT);
     }
 
     private void setupSliderSkin() {
         sliderSkin = new Skin();
 
         // Load your pixel art assets
-        backTex = new Texture(Gdx.files.internal("slider_back.png"));
-        knobTex = new Texture(Gdx.files.internal("slider_knob.png"));
+        backTex = main.assets.texture("slider_back.png");
+        knobTex = main.assets.texture("slider_knob.png");
 
-        sliderSkin.add("background", backTex);
-        sliderSkin.add("knob", knobTex);
+        // Regions, not the textures: the skin disposes what it holds, and these belong to the asset service
+        sliderSkin.add("background", new TextureRegion(backTex));
+        sliderSkin.add("knob", new TextureRegion(knobTex));
 
         // Build the style based on your image
         Slider.SliderStyle style = new Slider.SliderStyle();
@@ -77,7 +75,7 @@ public class SettingsScreen extends BaseScreen {
         table.setFillParent(true); //
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(font, Color.WHITE);
-        Texture set = new Texture(Gdx.files.internal("set.png"));
+        Texture set = main.assets.texture("set.png");
 
         Image setImg = new Image(set);
         // MUSIC SLIDER
@@ -140,9 +138,10 @@ public class SettingsScreen extends BaseScreen {
     public void dispose() {
         // SYSTEM RECONFIGURATION: Manual resource cleanup
         uiStage.dispose();
-        if (font != null) font.dispose();
+        if (font != null) main.fonts.release(FONT);
         if (sliderSkin != null) sliderSkin.dispose();
-        if (backTex != null) backTex.dispose();
-        if (knobTex != null) knobTex.dispose();
+        if (backTex != null) main.assets.release("slider_back.png");
+        if (knobTex != null) main.assets.release("slider_knob.png");
+        main.assets.release("set.png");
     }
 }
@@ -6,7 +6,6 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -17,6 +16,8 @@ import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
+import io.github.DKICooked.entities.GameAtlas;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
@@ -25,6 +26,8 @@ public class CharacterSelectScreen extends BaseScreen {
     private final Stage uiStage;
     private final NinePatchDrawable cardDrawable;
     private Texture headerTex;
+    private final GameAtlas atlas;
+    private static final FontKey FONT = FontKey.plain(20);
     private BitmapFont customFont;
 
     // Define your custom hex color
@@ -33,6 +36,7 @@ public class CharacterSelectScreen extends BaseScreen {
 
     public CharacterSelectScreen(Main main) {
         this.main = main;
+        this.atlas = new GameAtlas(main.assets);
         this.uiStage = new Stage(new FitViewport(800, 600));
         Gdx.input.setInputProcessor(uiStage);
 
@@ -45,7 +49,7 @@ public class CharacterSelectScreen extends BaseScreen {
 
         // 1. LOAD YOUR HEADER IMAGE
         // Replace "select_header.png" with your actual filename
-        headerTex = new Texture(Gdx.files.internal("select.png"));
+        headerTex = main.assets.texture("select.png");
         Image titleImage = new Image(headerTex);
 
         titleImage.addAction(
@@ -61,29 +65,29 @@ public class CharacterSelectScreen extends BaseScreen {
 
         // 2. CREATE THE CARDS
         // Inside CharacterSelectScreen constructor:
-        ImageButton alaineCard = createCharacterCard("Alaine", "Low gravity: Floats longer in the air", "aidle.png");
-        ImageButton jerickCard = createCharacterCard("Jerick", "Ninja: Can jump again while in mid-air", "jidle.png");
-        ImageButton timothyCard = createCharacterCard("Timothy", "Power: Charge for a massive high jump", "tidle.png");
+        ImageButton alaineCard = createCharacterCard("Alaine", "Low gravity: Floats longer in the air", "aidle");
+        ImageButton jerickCard = createCharacterCard("Jerick", "Ninja: Can jump again while in mid-air", "jidle");
+        ImageButton timothyCard = createCharacterCard("Timothy", "Power: Charge for a massive high jump", "tidle");
 
         // ... (Keep your listeners the same) ...
         alaineCard.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                main.setScreen(new GameScreen(main, "Alaine"));
+                main.setScreen(new GameScreen(main, "Alaine", main.tick));
             }
         });
 
         jerickCard.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                main.setScreen(new GameScreen(main, "Jerick"));
+                main.setScreen(new GameScreen(main, "Jerick", main.tick));
             }
         });
 
         timothyCard.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                main.setScreen(new GameScreen(main, "Timothy"));
+                main.setScreen(new GameScreen(main, "Timothy", main.tick));
             }
         });
         // 3. UPDATED LAYOUT
@@ -114,20 +118,12 @@ public class CharacterSelectScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-        parameter.size = 20;
-        parameter.color = Color.WHITE;
-
-        customFont = generator.generateFont(parameter);
+        customFont = main.fonts.acquire(FONT);
         customFont.getRegion().getTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        generator.dispose();
     }
 
-    private ImageButton createCharacterCard(String name, String description, String internalPath) {
-        Texture charTex = new Texture(Gdx.files.internal(internalPath));
-        Image characterImg = new Image(charTex);
+    private ImageButton createCharacterCard(String name, String description, String regionName) {
+        Image characterImg = new Image(atlas.region(regionName));
 
         Label.LabelStyle labelStyle = new Label.LabelStyle(customFont, Color.WHITE);
         Label nameLabel = new Label(name, labelStyle);
@@ -229,7 +225,9 @@ public class CharacterSelectScreen extends BaseScreen {
     @Override
     public void dispose() {
         uiStage.dispose();
-        if (customFont != null) customFont.dispose();
+        if (customFont != null) main.fonts.release(FONT);
+        atlas.dispose();
+        main.assets.release("select.png");
         if (cardDrawable.getPatch().getTexture() != null) {
             cardDrawable.getPatch().getTexture().dispose();
         }
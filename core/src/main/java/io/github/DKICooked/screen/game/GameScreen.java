@@ -6,142 +6,181 @@ import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.Touchable;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.DKICooked.Main;
-import io.github.DKICooked.audio.SoundPlayer;
+import io.github.DKICooked.assets.Assets;
+import io.github.DKICooked.assets.FontKey;
 import io.github.DKICooked.entities.*;
-import io.github.DKICooked.gameLogic.SaveData;
-import io.github.DKICooked.gameLogic.SaveManager;
+import io.github.DKICooked.gameLogic.Leaderboard;
 import io.github.DKICooked.gameLogic.WorldManager;
+import io.github.DKICooked.gameLogic.physics.FixedStepScheduler;
+import io.github.DKICooked.gameLogic.sim.InputFrame;
+import io.github.DKICooked.gameLogic.sim.InputLog;
+import io.github.DKICooked.gameLogic.sim.Raid;
+import io.github.DKICooked.gameLogic.sim.Simulation;
+import io.github.DKICooked.gameLogic.sim.SimulationListener;
+import io.github.DKICooked.profiling.Profiler;
+import io.github.DKICooked.render.PostProcess;
+import io.github.DKICooked.render.RenderQueue;
+import io.github.DKICooked.render.RenderQueue.Layer;
+import io.github.DKICooked.render.RenderStats;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.SettingsScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
 public class GameScreen extends BaseScreen {
     private final String selection;
-    private enum State { PLAYING, DYING, GAMEOVER }
-    private State currentState = State.PLAYING;
-    private float deathTimer = 0f;
-    private static final float DEATH_DURATION = 1.5f;
+    private boolean gameOver = false;
+    private boolean runRecorded = false;
 
     private static final float SCREEN_WIDTH  = 800f;
     private static final float SCREEN_HEIGHT = 600f;
+    private static final float CULL_MARGIN = 16f; // covers the corners of a spinning 64 px asteroid
+    private static final float BACKGROUND_ART_HEIGHT = 1104f; // background.png's height; the KTX variant is resampled to 1024
+    private static final String LAST_REPLAY = "replays/last.dkr";
+    private static final int LEADERBOARD_PLACES = 10; // a score this high asks for a name
+    private static final String ANONYMOUS = "---";
 
     private final Main main;
+    private final Simulation sim;
+    private final InputFrame input = new InputFrame();
+    private boolean jumpLatched; // SPACE went down since the last frame that ran a tick
+    private final InputLog.Recorder recorder;
     private final WorldManager world;
     private final PlayerActor player;
     private final PlayerSprite sprite;
 
-    private Texture platformTileTexture, playerFallenTexture, backgroundTexture, railTexture;
-    private Texture titleTex, retryTex, whitePixel, asteroidTex, anomalyTex;
+    private final GameAtlas atlas;
+    private Texture backgroundTexture, railTexture;
+    private Texture titleTex, retryTex, whitePixel;
+    private TextureRegion anomalyTex;
+    private Image anomalyImage;
     private PlatformTiles platformTile;
 
-    private enum RaidType { NONE, ASTEROIDS, UFO, MAGNETIC_STORM }
-    private RaidType activeRaid = RaidType.NONE;
-    private RaidType lastActiveRaid = RaidType.NONE;
+    private Raid lastActiveRaid = Raid.NONE; // the raid the tint is fading in or out for
 
-    private float raidEndHeight = 0;
-    private Animation<TextureRegion> ufoHorizontalAnim;
-    private final UfoManager ufoManager;
     private final MagneticStormManager msManger;
-    private final AsteroidManager asteroidManager;
-
+    private final PostProcess postProcess;
+    private final RenderQueue renderQueue;
+    private final RenderQueue.Pass capturePass, tilesPass, effectsPass;
+    private final RenderQueue.BatchDraw playerDraw, worldActorsDraw, hudDraw;
+    private final FixedStepScheduler scheduler;
+    private final Rectangle view = new Rectangle(); // world area the camera shows, padded by CULL_MARGIN
+
+    private static final FontKey FONT = new FontKey(28, 2f, 0, Color.WHITE);
     private BitmapFont scoreFont;
     private Label scoreLabel, finalScoreLabel;
     private final StringBuilder scoreBuilder = new StringBuilder();
+    private Label statsLabel;
+    private final StringBuilder statsBuilder = new StringBuilder();
+    private static final float PROFILE_REFRESH = 0.25f; // seconds between overlay updates; the text is unreadable any faster
+    private final Profiler.Phase logicPhase, simPhase, uiPhase, submitPhase, flushPhase;
+    private Label profileLabel;
+    private final StringBuilder profileBuilder = new StringBuilder();
+    private float profileRefreshTimer = 0f;
 
     private final Stage uiStage;
     private float backgroundTintAlpha = 0f;
     private final float FADE_SPEED = 1.5f;
     private float anomalyTimer = 0;
 
-    private int highestChunkReached = 0;
     private int lastSnapChunk = -1;
     private boolean paused = false;
     private boolean escWasPressed = false;
     private PausedScreen pauseOverlay;
 
-    private int recordHeight = 0;
+    private int shownHeight = -1;
     private Table gameOverTable;
     private TextField nameInput;
     private TextButton submitBtn;
     private TextButton retryBtn;
     private TextButton quitBtn;
 
-    private Texture ghostTex;
-    private Texture ufoTex;
-    private Texture ufoVehicle;
-
-    private float nextAnomalyMinHeight = 0; // The player must reach this height before a new raid can start
-    private static final float BREATHER_DISTANCE = 1500f; // Distance of the "Breather"
+    private TextureRegion ufoVehicle;
 
-    private final Array<Vector2> trailPositions = new Array<>();
     private static final int MAX_TRAIL_SAMPLES = 10;
+    private final Vector2[] trailPositions = new Vector2[MAX_TRAIL_SAMPLES]; // ring buffer, newest at trailHead
+    private int trailHead = 0;
+    private int trailSize = 0;
 
-    private float stuckTimer = 0;
-    private float lastRecordedHeight = 0;
-    private boolean pitySpawned = false;
-    private static final float STUCK_THRESHOLD = 20f; // 20 seconds
-
-    public GameScreen(Main main, String selection) {
+    /** @param tick seconds per simulation step; a coarser tick lightens the load on slow machines */
+    public GameScreen(Main main, String selection, float tick) {
         this.main = main;
         this.selection = selection;
-        playerFallenTexture = new Texture(Gdx.files.internal("dead.png"));
-        anomalyTex = new Texture(Gdx.files.internal("emer.png"));
+        this.scheduler = new FixedStepScheduler(tick);
+        logicPhase = main.profiler.phase("logic");
+        simPhase = main.profiler.phase("sim");
+        uiPhase = main.profiler.phase("ui");
+        submitPhase = main.profiler.phase("submit");
+        flushPhase = main.profiler.phase("flush");
+        for (int i = 0; i < MAX_TRAIL_SAMPLES; i++) trailPositions[i] = new Vector2();
+        atlas = new GameAtlas(main.assets);
+        anomalyTex = atlas.region("emer");
 
         main.soundPlayer.playMusic();
 
         this.uiStage = new Stage(new FitViewport(SCREEN_WIDTH, SCREEN_HEIGHT));
 
-        asteroidTex = new Texture(Gdx.files.internal("asteroid.png"));
-        this.asteroidManager = new AsteroidManager(asteroidTex);
-        this.world = new WorldManager();
-
-        ghostTex = new Texture(Gdx.files.internal("GhostPowerUp.png"));
-        ufoTex = new Texture(Gdx.files.internal("UfoPowerUp.png"));
-        ufoVehicle = new Texture(Gdx.files.internal("ufoV1.png"));
+        this.sim = new Simulation(MathUtils.random.nextLong(), selection, tick, atlas, new SimulationListener() {
+            @Override public void jumped() { main.soundPlayer.playJump(); }
 
-        platformTileTexture = new Texture(Gdx.files.internal("wallTile.jpg"));
-        platformTile = new PlatformTiles(platformTileTexture);
-
-        player = new PlayerActor(main.soundPlayer);
-        player.setSize(40, 60);
-        player.setPosition(400, 150);
-        player.setPlatforms(world.getActivePlatforms());
-        player.initStats(selection);
+            @Override
+            public void raidStarted(Raid raid) {
+                if (raid == Raid.ASTEROIDS) main.soundPlayer.playMeteor();   // 🔊 meteor sound
+                else if (raid == Raid.UFO) main.soundPlayer.playUFO();       // 🔊 alien sound
+                else main.soundPlayer.playStatic();                          // 🔊 static sound
+            }
+        });
+        this.recorder = new InputLog.Recorder(sim);
+        this.world = sim.getWorld();
+        this.player = sim.getPlayer();
 
-        stage.addActor(player);
-        sprite = new PlayerSprite(selection);
+        ufoVehicle = atlas.region("ufoV1");
+        platformTile = new PlatformTiles(atlas.region("wallTile"));
 
-        backgroundTexture = new Texture(Gdx.files.internal("background.png"));
-        railTexture = new Texture(Gdx.files.internal("rail.png"));
-        backgroundTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
-        railTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+        stage.addActor(sim.getActors());
+        sprite = new PlayerSprite(selection, atlas);
 
-        Texture f1 = new Texture(Gdx.files.internal("ufoH1.png"));
-        Texture f2 = new Texture(Gdx.files.internal("ufoH2.png"));
-        ufoHorizontalAnim = new Animation<>(0.3f, new TextureRegion(f1), new TextureRegion(f2));
-        ufoHorizontalAnim.setPlayMode(Animation.PlayMode.LOOP);
+        backgroundTexture = main.assets.texture(main.assets.background()); // mipmapped and repeating
+        railTexture = main.assets.texture(Assets.RAIL);
 
-        this.ufoManager = new UfoManager(ufoHorizontalAnim);
         this.msManger = new MagneticStormManager();
+        this.postProcess = new PostProcess();
+
+        // Both stages draw through one queue and one batch; their roots sit at the origin, so skip the transform flushes
+        renderQueue = new RenderQueue(stage.getBatch());
+        renderQueue.setProjection(Layer.BACKDROP, uiStage.getCamera().combined);
+        renderQueue.setProjection(Layer.PARALLAX, uiStage.getCamera().combined);
+        renderQueue.setProjection(Layer.TILES, stage.getCamera().combined);
+        renderQueue.setProjection(Layer.WORLD, stage.getCamera().combined);
+        renderQueue.setProjection(Layer.ACTORS, stage.getCamera().combined);
+        renderQueue.setProjection(Layer.FX, uiStage.getCamera().combined);
+        renderQueue.setProjection(Layer.HUD, uiStage.getCamera().combined);
+        stage.getRoot().setTransform(false);
+        sim.getActors().setTransform(false);
+        uiStage.getRoot().setTransform(false);
+        capturePass = this::captureWorld;
+        tilesPass = this::drawTiles;
+        effectsPass = this::applyEffects;
+        playerDraw = this::drawPlayer;
+        worldActorsDraw = this::drawWorldActors;
+        hudDraw = this::drawHud;
 
         // Initial input setup
         InputMultiplexer multiplexer = new InputMultiplexer();
@@ -161,132 +200,73 @@ public class GameScreen extends BaseScreen {
         }
         escWasPressed = escDown;
 
-        if (currentState == State.PLAYING) {
-            world.update(player.getY());
-            player.setPlatforms(world.getActivePlatforms());
-
-            int currentChunk = world.getCurrentChunk();
-            if (currentChunk > highestChunkReached) highestChunkReached = currentChunk;
-            if (currentChunk != lastSnapChunk) {
-                snapCamera(currentChunk);
-                lastSnapChunk = currentChunk;
-            }
-
-            if (activeRaid != RaidType.NONE) checkCollisions();
-            if (highestChunkReached > 0 && currentChunk < highestChunkReached - 1) startDeathSequence();
-
-            float moveDir = 0;
-            if (Gdx.input.isKeyPressed(Input.Keys.A)) moveDir = -1;
-            if (Gdx.input.isKeyPressed(Input.Keys.D)) moveDir = 1;
-
-            if (activeRaid == RaidType.MAGNETIC_STORM) moveDir *= -1;
-            player.handleHorizontalMovement(moveDir, delta);
-
-            int currentHeight = (int) (player.getY() / 100f);
-            if (currentHeight > recordHeight) recordHeight = currentHeight;
+        // Sampled once per frame and held for every tick in it. A press is latched until a frame runs
+        // a tick, so a tap released within a frame, even one too short to run any ticks, still counts
+        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) jumpLatched = true;
+        input.set(Gdx.input.isKeyPressed(Input.Keys.A), Gdx.input.isKeyPressed(Input.Keys.D),
+            Gdx.input.isKeyPressed(Input.Keys.SPACE) || jumpLatched);
+        simulate(delta);
+
+        int currentChunk = world.getCurrentChunk();
+        if (currentChunk != lastSnapChunk) {
+            snapCamera(currentChunk);
+            lastSnapChunk = currentChunk;
+        }
 
+        int recordHeight = sim.getRecordHeight();
+        if (recordHeight != shownHeight) {
+            shownHeight = recordHeight;
             scoreBuilder.setLength(0);
             scoreBuilder.append("Best: ").append(recordHeight).append("m");
             scoreLabel.setText(scoreBuilder);
-
-        } else if (currentState == State.DYING) {
-            deathTimer += delta;
-            float bounce = (float) Math.sin(deathTimer * 5) * 50f;
-            float fall = 300f * deathTimer;
-            player.setY(player.getY() + (bounce * (1 - deathTimer)) - (fall * delta));
-            player.rotateBy(400 * delta);
-
-            if (deathTimer >= DEATH_DURATION) showGameOverScreen();
-        }
-
-        if (Math.abs(player.getY() - lastRecordedHeight) < 50f) {
-            stuckTimer += delta;
-        } else {
-            // Player moved up! Reset everything
-            stuckTimer = 0;
-            lastRecordedHeight = player.getY();
-            pitySpawned = false;
-        }
-
-        // 2. If stuck for 20 seconds and we haven't given them a gift yet...
-        if (stuckTimer >= STUCK_THRESHOLD && !pitySpawned) {
-            spawnPityPowerUp();
-            pitySpawned = true; // Only spawn one per "stuck" session
-        }
-
-        for (Actor actor : stage.getActors()) {
-            if (actor instanceof PowerUpActor) {
-                PowerUpActor item = (PowerUpActor) actor;
-
-                // If the player overlaps the item
-                if (player.getCollisionRect().overlaps(item.getBounds())) {
-
-                    // Activate the 6.5s Ghost mode
-                    player.activePowerUp(item.getType());
-
-                    // Remove the item from the screen
-                    item.remove();
-
-                    // (Optional) soundPlayer.playPowerUpSound();
-                }
-            }
-        }
-
-        for (Actor actor : stage.getActors()) {
-            if (actor instanceof PowerUpActor) {
-                // If the item is 800 pixels below the player, delete it to save memory
-                if (actor.getY() < player.getY() - 800) {
-                    actor.remove();
-                }
-            }
         }
 
         if (player.hasUfo()) {
-            // Record current position
-            trailPositions.insert(0, new Vector2(player.getX() - 20, player.getY() - 10));
-
-            // Keep the list short
-            if (trailPositions.size > MAX_TRAIL_SAMPLES) {
-                trailPositions.removeIndex(trailPositions.size - 1);
-            }
+            // Record current position, overwriting the oldest sample once the ring is full
+            trailHead = (trailHead + MAX_TRAIL_SAMPLES - 1) % MAX_TRAIL_SAMPLES;
+            trailPositions[trailHead].set(player.getX() - 20, player.getY() - 10);
+            if (trailSize < MAX_TRAIL_SAMPLES) trailSize++;
         } else {
             // Clear trail when UFO is gone
-            trailPositions.clear();
+            trailSize = 0;
         }
-        stage.act(delta);
+
+        if (sim.isOver() && !gameOver) showGameOverScreen();
     }
 
-    private void startDeathSequence() {
-        currentState = State.DYING;
-        activeRaid = RaidType.NONE;
-        backgroundTintAlpha = 0;
-        player.setDead(true);
-        player.clearActions();
-        player.setOrigin(player.getWidth() / 2f, player.getHeight() / 2f);
+    /** Runs this frame's share of fixed ticks, then blends the moving actors for drawing. */
+    private void simulate(float delta) {
+        simPhase.begin();
+        int ticks = scheduler.advance(delta);
+
+        sim.beginTicks();
+        for (int t = 0; t < ticks && !sim.isOver(); t++) {
+            recorder.record(input);
+            sim.step(input);
+        }
+        if (ticks > 0) jumpLatched = false;
+        sim.endTicks(scheduler.getAlpha());
+        simPhase.end();
     }
 
     private void showGameOverScreen() {
-        currentState = State.GAMEOVER;
+        gameOver = true;
         paused = true;
+        saveReplay();
+        main.saves.getHistory().add(sim, System.currentTimeMillis());
 
         // Force UI focus
         InputMultiplexer multiplexer = new InputMultiplexer();
         multiplexer.addProcessor(uiStage);
         Gdx.input.setInputProcessor(multiplexer);
 
-        SaveData data = SaveManager.load();
-        boolean isHighScore = data.isHighScore(recordHeight);
-
-
-
-        // Ensure data exists and check leaderboard
-        if (data == null || data.leaderBoard == null || data.leaderBoard.size < 10) {
-            isHighScore = true;
-        } else if (recordHeight > data.leaderBoard.get(data.leaderBoard.size - 1).score) {
-            isHighScore = true;
+        int recordHeight = sim.getRecordHeight();
+        Leaderboard board = main.saves.getLeaderboard();
+        boolean isHighScore = board.isHighScore(recordHeight, LEADERBOARD_PLACES);
+        if (finalScoreLabel != null) {
+            finalScoreLabel.setText("Final Score: " + recordHeight + "m\n#" + board.rankOf(recordHeight) + " of " + (board.size() + 1));
         }
-
-        if (finalScoreLabel != null) finalScoreLabel.setText("Final Score: " + recordHeight + "m");
+        if (!isHighScore) recordRun(ANONYMOUS); // Only a top score asks for a name
 
         gameOverTable.setVisible(true);
         gameOverTable.getColor().a = 0;
@@ -307,90 +287,35 @@ public class GameScreen extends BaseScreen {
         gameOverTable.invalidateHierarchy();
     }
 
-    private void snapCamera(int chunkIndex) {
-        float newY = chunkIndex * SCREEN_HEIGHT;
-        OrthographicCamera cam = (OrthographicCamera) stage.getCamera();
-        cam.position.set(SCREEN_WIDTH / 2f, newY + SCREEN_HEIGHT / 2f, 0);
-        cam.update();
+    /** Adds the finished climb to the leaderboard, once; Main writes it out behind the frame. */
+    private void recordRun(String name) {
+        if (runRecorded) return;
+        runRecorded = true;
+        if (sim.getRecordHeight() <= 0) return; // Never left the ground; it would only fill the board with --- 0M rows
+        main.saves.getLeaderboard().add(name, sim.getRecordHeight(), selection);
     }
 
-    private void checkCollisions() {
-        if (currentState != State.PLAYING || player.isGhost()) return;
-
-        for (var actor : stage.getActors()) {
-            if (actor instanceof AsteroidActor meteor) {
-                if (com.badlogic.gdx.math.Intersector.overlaps(meteor.getCollisionCircle(), player.getCollisionRect())) {
-                    startDeathSequence();
-                    break;
-                }
+    /** Keeps the climb's seed and inputs so it can be re-run offline with {@link io.github.DKICooked.gameLogic.sim.Replay}. */
+    private void saveReplay() {
+        InputLog log = recorder.finish(sim.getRecordHeight());
+        main.saves.writeInBackground(() -> {
+            try {
+                log.write(Gdx.files.local(LAST_REPLAY));
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("GameScreen", "Could not save the replay", e);
             }
-            if (actor instanceof UfoActor ufo) {
-                if (com.badlogic.gdx.math.Intersector.overlaps(ufo.getCollisionCircle(), player.getCollisionRect())) {
-                    startDeathSequence();
-                    break;
-                }
-            }
-        }
-    }
-    private void spawnPityPowerUp() {
-        System.out.println("PITY SYSTEM: Player is stuck! Finding a spot for help...");
-
-        Platform targetPlatform = null;
-        float closestDist = Float.MAX_VALUE;
-
-        // 1. Find the best platform ABOVE the player
-        for (Platform p : world.getActivePlatforms()) {
-            float dist = p.y1 - player.getY();
-            // Look for platforms between 0 and 400 pixels above the player
-            if (dist > 0 && dist < 400) {
-                if (dist < closestDist) {
-                    closestDist = dist;
-                    targetPlatform = p;
-                }
-            }
-        }
-
-        // 2. Decide what to spawn
-        PowerUpActor.Type type = MathUtils.randomBoolean() ?
-            PowerUpActor.Type.GHOST :
-            PowerUpActor.Type.UFO_RIDE;
-        Texture tex = (type == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
-
-        PowerUpActor pUp;
-
-        if (targetPlatform != null) {
-            // Option A: Found a platform! Place it there.
-            float centerX = (targetPlatform.x1 + targetPlatform.x2) / 2f;
-            pUp = new PowerUpActor(type, tex, centerX - 16, targetPlatform.y1 + 15);
-            System.out.println("Pity item spawned on platform at Y: " + targetPlatform.y1);
-        } else {
-            // Option B: No platform found? Spawn it in the air above the player.
-            pUp = new PowerUpActor(type, tex, player.getX(), player.getY() + 250);
-            System.out.println("Pity item spawned in mid-air!");
-        }
-
-        // 3. Add to stage and apply the "Bounce In" animation
-        pUp.setScale(0); // Start tiny
-        stage.addActor(pUp);
-        pUp.addAction(Actions.scaleTo(1, 1, 0.6f, com.badlogic.gdx.math.Interpolation.bounceOut));
+        });
     }
 
-    private void checkAndSpawnPowerUps() {
-        for (Platform p : world.getActivePlatforms()) {
-            if (p.powerUpType != null) {
-                System.out.println("SPAWNING: " + p.powerUpType);
-
-                Texture currentPU = (p.powerUpType == PowerUpActor.Type.UFO_RIDE) ? ufoTex : ghostTex;
-
-                float centerX = (p.x1 + p.x2) / 2f;
-                float spawnX = centerX - 16; // Assuming 32px wide power-up
-                float spawnY = p.y1 + 8;
+    private void snapCamera(int chunkIndex) {
+        float newY = chunkIndex * SCREEN_HEIGHT;
+        OrthographicCamera cam = (OrthographicCamera) stage.getCamera();
+        cam.position.set(SCREEN_WIDTH / 2f, newY + SCREEN_HEIGHT / 2f, 0);
+        cam.update();
 
-                PowerUpActor pUp = new PowerUpActor(p.powerUpType, currentPU, spawnX, spawnY);
-                stage.addActor(pUp);
-                p.powerUpType = null;
-            }
-        }
+        // The camera only moves here, so this is the one place the culling area needs refreshing
+        view.set(-CULL_MARGIN, newY - CULL_MARGIN, SCREEN_WIDTH + CULL_MARGIN * 2, SCREEN_HEIGHT + CULL_MARGIN * 2);
+        sim.getActors().setCullingArea(view);
     }
 
     @Override
@@ -399,30 +324,30 @@ public class GameScreen extends BaseScreen {
         ScreenUtils.clear(0.05f, 0.05f, 0.08f, 1f);
 
         // 2. Update Game Logic (ONLY if not paused)
+        logicPhase.begin();
         if (!paused) {
             updateLogic(delta);
-            if (currentState == State.PLAYING) {
-                handleAnomalyLogic(delta);
-                checkAndSpawnPowerUps();
-            }
+            updateRaidTint(delta);
         }
         main.soundPlayer.updateVolume();
+        logicPhase.end();
         // 3. UPDATE UI LOGIC (ALWAYS - even if paused)
         // This is what makes the PausedScreen animation actually move!
+        uiPhase.begin();
         uiStage.act(delta);
+        uiPhase.end();
 
-        SpriteBatch batch = (SpriteBatch) stage.getBatch();
+        submitPhase.begin();
 
-        // 4. Background Rendering (Parallax)
-        batch.setProjectionMatrix(uiStage.getCamera().combined);
-        batch.begin();
-        boolean isEffectivelyMagnetic = (activeRaid == RaidType.MAGNETIC_STORM) ||
-            (activeRaid == RaidType.NONE && lastActiveRaid == RaidType.MAGNETIC_STORM);
+        // While a raid is fading in or out, the world is drawn off-screen and composited through the raid shader
+        boolean postProcessing = backgroundTintAlpha > 0;
+        if (postProcessing) renderQueue.pass(Layer.BACKDROP, capturePass);
 
-        if (isEffectivelyMagnetic && backgroundTintAlpha > 0) {
+        // 4. Background Rendering (Parallax)
+        if (lastActiveRaid == Raid.MAGNETIC_STORM && backgroundTintAlpha > 0) {
             Color stormColor = msManger.getStormTint(backgroundTintAlpha);
             // Linear interpolation between white (1,1,1) and storm color based on alpha
-            batch.setColor(
+            renderQueue.setColor(
                 1f - (1f - stormColor.r) * backgroundTintAlpha,
                 1f - (1f - stormColor.g) * backgroundTintAlpha,
                 1f - (1f - stormColor.b) * backgroundTintAlpha,
@@ -430,165 +355,177 @@ public class GameScreen extends BaseScreen {
             );
         } else {
             float currentGreenBlue = 1f - (backgroundTintAlpha * 0.7f);
-            batch.setColor(1f, currentGreenBlue, currentGreenBlue, 1f);
+            renderQueue.setColor(1f, currentGreenBlue, currentGreenBlue, 1f);
         }
 
-        float starScrollV = (player.getY() * 0.05f) / backgroundTexture.getHeight();
-        batch.draw(backgroundTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, starScrollV + 1, 1, starScrollV);
+        float starScrollV = (player.getY() * 0.05f) / BACKGROUND_ART_HEIGHT;
+        renderQueue.draw(Layer.BACKDROP, backgroundTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, starScrollV + 1, 1, starScrollV);
 
         float railScrollV = (player.getY() * 0.3f) / railTexture.getHeight();
-        batch.draw(railTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, (railScrollV / 2f), 1, (railScrollV / 2f) + 0.5f);
+        renderQueue.draw(Layer.PARALLAX, railTexture, 0, 0, SCREEN_WIDTH, SCREEN_HEIGHT, 0, (railScrollV / 2f), 1, (railScrollV / 2f) + 0.5f);
 
-        batch.setColor(Color.WHITE);
-        batch.end();
+        renderQueue.setColor(Color.WHITE);
        // stage.setDebugAll(true);
         // 5. Game World Rendering (Platforms and Player)
-        batch.setProjectionMatrix(stage.getCamera().combined);
-        batch.begin();
-        for (Platform p : world.getActivePlatforms()) {
-            platformTile.render(batch, p);
-        }
-
-        if (player.isGhost()) {
-            // Give him a ghostly blue tint and 50% opacity
-            batch.setColor(0.5f, 0.8f, 1f, 0.6f);
-        }
+        platformTile.sync(world);
+        renderQueue.pass(Layer.TILES, tilesPass);
 
         if (player.hasUfo()) {
-            for (int i = 0; i < trailPositions.size; i++) {
-                Vector2 pos = trailPositions.get(i);
+            for (int i = 0; i < trailSize; i++) {
+                Vector2 pos = trailPositions[(trailHead + i) % MAX_TRAIL_SAMPLES];
+                if (pos.y + 50 < view.y || pos.y > view.y + view.height) continue;
 
                 // Calculate transparency: further back = more faded
                 // (1.0 is the main ship, so we start trail at 0.5 and go down)
                 float alpha = 0.5f * (1f - (float) i / MAX_TRAIL_SAMPLES);
 
                 // Give it a "blue energy" tint
-                batch.setColor(0.4f, 0.7f, 1f, alpha);
+                renderQueue.setColor(0.4f, 0.7f, 1f, alpha);
 
                 // Draw the ghost UFO
-                batch.draw(ufoVehicle, pos.x, pos.y, 80, 50);
+                renderQueue.draw(Layer.WORLD, ufoVehicle, pos.x, pos.y, 80, 50);
             }
 
-            batch.setColor(Color.WHITE);
-            batch.draw(ufoVehicle, player.getX() - 20, player.getY() - 10, 80, 50);
-        }
-
-        if (!player.hasUfo()) {
+            renderQueue.setColor(Color.WHITE);
+            renderQueue.draw(Layer.WORLD, ufoVehicle, player.getX() - 20, player.getY() - 10, 80, 50);
+        } else {
             if (player.isGhost()) {
-                batch.setColor(0.5f, 0.8f, 1f, 0.6f); // Ghostly transparency
+                renderQueue.setColor(0.5f, 0.8f, 1f, 0.6f); // Ghostly transparency
             } else {
-                batch.setColor(Color.WHITE);
+                renderQueue.setColor(Color.WHITE);
             }
 
             // Draw the actual character
-            sprite.draw(batch, player);
+            renderQueue.draw(Layer.WORLD, playerDraw);
         }
 
-        batch.setColor(Color.WHITE);
-        batch.end();
+        renderQueue.setColor(Color.WHITE);
 
         // Draw the stage (for actors added to the world stage)
-        stage.draw();
+        renderQueue.draw(Layer.ACTORS, worldActorsDraw);
 
-        // 6. Effects (Magnetic Glitch)
-        if (backgroundTintAlpha > 0) {
-            // We check if the raid IS or WAS a magnetic storm
-            if (activeRaid == RaidType.MAGNETIC_STORM || lastActiveRaid == RaidType.MAGNETIC_STORM) {
-                batch.setProjectionMatrix(uiStage.getCamera().combined);
-                // Note: Batch begin/end is handled inside msManger.drawGlitch
-                msManger.drawGlitch(batch, backgroundTintAlpha);
-            }
-        }
+        // 6. Effects (glitch bars and scanlines for a magnetic storm, vignette for any raid)
+        if (postProcessing) renderQueue.pass(Layer.FX, effectsPass);
 
-        // 7. Anomaly Text Pulse
+        // 7. Anomaly Text Pulse (drawn by the UI stage along with everything else)
+        anomalyImage.setVisible(backgroundTintAlpha > 0 && !MathUtils.randomBoolean(0.03f));
         if (backgroundTintAlpha > 0) {
             anomalyTimer += delta;
-            batch.setProjectionMatrix(uiStage.getCamera().combined);
-            batch.begin();
-            if (!MathUtils.randomBoolean(0.03f)) {
-                float pulse = 0.6f + (float) Math.sin(anomalyTimer * 6f) * 0.4f;
-                batch.setColor(1, 1, 1, pulse * backgroundTintAlpha);
-                batch.draw(anomalyTex, (SCREEN_WIDTH / 2f) - 285f, 420, 570f, 85f);
-                batch.setColor(Color.WHITE);
-            }
-            batch.end();
+            float pulse = 0.6f + (float) Math.sin(anomalyTimer * 6f) * 0.4f;
+            anomalyImage.getColor().a = pulse * backgroundTintAlpha;
         }
+        updateRenderStats();
+        updateProfileOverlay(delta);
 
         // 8. UI Rendering (Always last so it stays on top)
-        uiStage.draw();
+        renderQueue.draw(Layer.HUD, hudDraw);
+        submitPhase.end();
+
+        flushPhase.begin();
+        renderQueue.flush();
+        flushPhase.end();
     }
 
-    private void handleAnomalyLogic(float delta) {
-        float py = player.getY();
-        if (activeRaid == RaidType.NONE && py >= 1500 && py >= nextAnomalyMinHeight) {
-            int choice = MathUtils.random(1, 3);
+    private void captureWorld() {
+        postProcess.capture();
+    }
 
-            if (choice == 1) {
-                activeRaid = RaidType.ASTEROIDS;
-                main.soundPlayer.playMeteor();   // 🔊 meteor sound
-            }
-            else if (choice == 2) {
-                activeRaid = RaidType.UFO;
-                main.soundPlayer.playUFO();      // 🔊 alien sound
-            }
-            else {
-                activeRaid = RaidType.MAGNETIC_STORM;
-                main.soundPlayer.playStatic();   // 🔊 static sound
-            }
+    private void drawTiles() {
+        platformTile.render(stage.getCamera().combined, view);
+    }
 
-            raidEndHeight = py + 2000f;
-        }
+    private void applyEffects() {
+        postProcess.finish();
+        // We check if the raid IS or WAS a magnetic storm
+        boolean magnetic = lastActiveRaid == Raid.MAGNETIC_STORM;
+        postProcess.apply(stage.getBatch(), uiStage.getViewport(), magnetic ? backgroundTintAlpha : 0f, backgroundTintAlpha);
+    }
 
-        if (activeRaid != RaidType.NONE) {
-            backgroundTintAlpha += delta * FADE_SPEED;
-            if (backgroundTintAlpha > 1f) backgroundTintAlpha = 1f;
+    private void drawPlayer(Batch batch) {
+        sprite.draw(batch, player);
+    }
 
-            if (activeRaid == RaidType.ASTEROIDS) asteroidManager.update(delta, py, stage);
-            else if (activeRaid == RaidType.UFO) ufoManager.update(delta, stage);
-            else if (activeRaid == RaidType.MAGNETIC_STORM) msManger.update(delta, stage);
+    private void drawWorldActors(Batch batch) {
+        stage.getRoot().draw(batch, 1f);
+    }
 
-            // Check if the raid should END
-            if (py >= raidEndHeight) {
-                stopAllRaids();
-                // SET THE BREATHER HERE:
-                // The next raid cannot start until the player climbs another 1500 units
-                nextAnomalyMinHeight = py + BREATHER_DISTANCE;
-            }
+    private void drawHud(Batch batch) {
+        uiStage.getRoot().draw(batch, 1f);
+    }
+
+    /** Shows last frame's GL counters while they are switched on (F3). */
+    private void updateRenderStats() {
+        RenderStats stats = main.renderStats;
+        statsLabel.setVisible(stats.isEnabled());
+        if (!stats.isEnabled()) return;
+        statsBuilder.setLength(0);
+        statsBuilder.append("draws ").append(stats.getDrawCalls())
+            .append("  binds ").append(stats.getTextureBindings())
+            .append("  shaders ").append(stats.getShaderSwitches());
+        statsLabel.setText(statsBuilder);
+    }
+
+    /** Shows the session's phase timings while the profiler overlay is switched on (F4). */
+    private void updateProfileOverlay(float delta) {
+        Profiler profiler = main.profiler;
+        profileLabel.setVisible(profiler.isOverlayVisible());
+        if (!profiler.isOverlayVisible()) return;
+        profileRefreshTimer -= delta;
+        if (profileRefreshTimer > 0f) return;
+        profileRefreshTimer = PROFILE_REFRESH;
+        profileBuilder.setLength(0);
+        profiler.appendSummary(profileBuilder);
+        profileLabel.setText(profileBuilder);
+    }
+
+    /** Fades the raid tint in while the simulation has a raid running and back out once it ends. */
+    private void updateRaidTint(float delta) {
+        Raid raid = sim.getActiveRaid();
+        if (sim.getState() != Simulation.State.PLAYING) {
+            backgroundTintAlpha = 0f; // Dying cuts the raid off at once
+            lastActiveRaid = Raid.NONE;
+        } else if (raid != Raid.NONE) {
+            lastActiveRaid = raid;
+            backgroundTintAlpha += delta * FADE_SPEED;
+            if (backgroundTintAlpha > 1f) backgroundTintAlpha = 1f;
+            if (raid == Raid.MAGNETIC_STORM) msManger.update(delta, stage);
         } else {
-            // 3. Fading out the effects after a raid ends
+            // Fading out the effects after a raid ends
             backgroundTintAlpha -= delta * FADE_SPEED; // Gradually goes from 1 to 0
             if (backgroundTintAlpha <= 0f) {
                 backgroundTintAlpha = 0f;
-                lastActiveRaid = RaidType.NONE;
+                lastActiveRaid = Raid.NONE;
             }
         }
     }
 
-    private void stopAllRaids() {
-        lastActiveRaid = activeRaid;
-        activeRaid = RaidType.NONE;
-        ufoManager.stop();
-        msManger.stop(stage);
-    }
-
     public void setupUI() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 28;
-        parameter.color = Color.WHITE;
-        parameter.borderWidth = 2f;
-        parameter.borderColor = Color.BLACK;
-        scoreFont = generator.generateFont(parameter);
-        generator.dispose();
+        scoreFont = main.fonts.acquire(FONT);
+
+        anomalyImage = new Image(anomalyTex);
+        anomalyImage.setBounds((SCREEN_WIDTH / 2f) - 285f, 420, 570f, 85f);
+        anomalyImage.setTouchable(Touchable.disabled);
+        anomalyImage.setVisible(false);
+        uiStage.addActor(anomalyImage);
 
         scoreLabel = new Label("Best: 0m", new Label.LabelStyle(scoreFont, Color.WHITE));
         Table scoreTable = new Table();
         scoreTable.setFillParent(true);
         scoreTable.top().left().pad(20);
-        scoreTable.add(scoreLabel);
+        scoreTable.add(scoreLabel).left();
+        statsLabel = new Label("", new Label.LabelStyle(scoreFont, Color.WHITE));
+        statsLabel.setFontScale(0.6f);
+        statsLabel.setVisible(false);
+        scoreTable.row();
+        scoreTable.add(statsLabel).left();
+        profileLabel = new Label("", new Label.LabelStyle(scoreFont, Color.WHITE));
+        profileLabel.setFontScale(0.5f);
+        profileLabel.setVisible(false);
+        scoreTable.row();
+        scoreTable.add(profileLabel).left();
         uiStage.addActor(scoreTable);
 
-        Texture pauseTex = new Texture(Gdx.files.internal("Pause.png"));
+        Texture pauseTex = main.assets.texture("Pause.png");
         ImageButton pauseButton = new ImageButton(new TextureRegionDrawable(new TextureRegion(pauseTex)));
         Table uiTable = new Table();
         uiTable.setFillParent(true);
@@ -604,6 +541,7 @@ public class GameScreen extends BaseScreen {
             () -> { // Quit function (The "Give Up" logic)
                 paused = false;
                 pauseOverlay.toggle(false); // Hide the pause menu
+                sim.giveUp();               // Ends the climb here, so the run history gets its real length
                 showGameOverScreen();       // Trigger your existing GameOver UI
             },
             main
@@ -645,7 +583,7 @@ public class GameScreen extends BaseScreen {
         gameOverTable.center();
         gameOverTable.setBackground(whiteDrawable.tint(new Color(0, 0, 0, 0.8f)));
 
-        titleTex = new Texture(Gdx.files.internal("GO.png"));
+        titleTex = main.assets.texture("GO.png");
         Image goImage = new Image(titleTex);
         goImage.setOrigin(Align.center);
         goImage.addAction(Actions.forever(Actions.sequence(Actions.moveBy(0, 10, 0.8f), Actions.moveBy(0, -10, 0.8f))));
@@ -662,9 +600,7 @@ public class GameScreen extends BaseScreen {
             public void clicked(InputEvent event, float x, float y) {
                 String name = nameInput.getText().toUpperCase().trim();
                 if (name.isEmpty()) name = "AAA";
-                SaveData data = SaveManager.load();
-                data.addScore(name, recordHeight);
-                SaveManager.save(data);
+                recordRun(name);
                 nameInput.setVisible(false);
                 submitBtn.setVisible(false);
                 retryBtn.setVisible(true);
@@ -676,7 +612,7 @@ public class GameScreen extends BaseScreen {
         retryBtn.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
                 main.soundPlayer.stopMusic();
-                main.setScreen(new GameScreen(main, selection));
+                main.setScreen(new GameScreen(main, selection, scheduler.getTick()));
             }
         });
 
@@ -704,17 +640,18 @@ public class GameScreen extends BaseScreen {
 
     @Override
     public void dispose() {
+        if (gameOver) recordRun(ANONYMOUS); // Left a top score without entering a name
         uiStage.dispose();
-        if (sprite != null) sprite.dispose();
-        if (scoreFont != null) scoreFont.dispose();
-        if (playerFallenTexture != null) playerFallenTexture.dispose();
-        if (platformTileTexture != null) platformTileTexture.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (titleTex != null) titleTex.dispose();
+        if (scoreFont != null) main.fonts.release(FONT);
+        if (platformTile != null) platformTile.dispose();
+        if (atlas != null) atlas.dispose();
+        if (backgroundTexture != null) main.assets.release(main.assets.background());
+        if (railTexture != null) main.assets.release(Assets.RAIL);
+        main.assets.release("Pause.png");
+        if (titleTex != null) main.assets.release("GO.png");
         if (whitePixel != null) whitePixel.dispose();
-        if (asteroidTex != null) asteroidTex.dispose();
-        if (anomalyTex != null) anomalyTex.dispose();
-        if (msManger != null) msManger.dispose();
+        if (postProcess != null) postProcess.dispose();
+        if (sim != null) sim.dispose();
         if (pauseOverlay != null) {
             pauseOverlay.dispose();
         }
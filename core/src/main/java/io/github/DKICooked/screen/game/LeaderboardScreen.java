@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -13,16 +12,18 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
 import io.github.DKICooked.entities.LBScore;
-import io.github.DKICooked.gameLogic.SaveData;
-import io.github.DKICooked.gameLogic.SaveManager;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.main.MainMenuScreen;
 
 public class LeaderboardScreen extends BaseScreen {
     private final Main main;
+    private static final FontKey FONT = new FontKey(18, 0f, 2, Color.WHITE);
+    private static final int PLACES = 10;
     private BitmapFont customFont; // Declared here for class-wide use
     private Texture lbPic;
     private Texture crownTex;
@@ -32,8 +33,8 @@ public class LeaderboardScreen extends BaseScreen {
 
         // 1. Initialize assets
         createFonts();
-        this.lbPic = new Texture(Gdx.files.internal("LB.png"));
-        this.crownTex = new Texture(Gdx.files.internal("crown.png"));
+        this.lbPic = main.assets.texture("LB.png");
+        this.crownTex = main.assets.texture("crown.png");
 
         // 2. Set input processor so buttons work
         Gdx.input.setInputProcessor(stage);
@@ -42,17 +43,7 @@ public class LeaderboardScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-
-        parameter.size = 18; // Adjusted size for list readability
-        parameter.color = Color.WHITE;
-        parameter.shadowOffsetX = 2;
-        parameter.shadowOffsetY = 2;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-
-        customFont = generator.generateFont(parameter);
-        generator.dispose();
+        customFont = main.fonts.acquire(FONT);
     }
 
     private void setupUI() {
@@ -73,7 +64,7 @@ public class LeaderboardScreen extends BaseScreen {
 
         // --- 2. Leaderboard Table ---
         Table scoreTable = new Table();
-        SaveData data = SaveManager.load();
+        Array<LBScore> best = main.saves.getLeaderboard().top(PLACES, new Array<>());
         Label.LabelStyle whiteStyle = new Label.LabelStyle(customFont, Color.WHITE);
         Label.LabelStyle goldStyle = new Label.LabelStyle(customFont, Color.valueOf("fed546"));
         Label.LabelStyle headerStyle = new Label.LabelStyle(customFont, Color.valueOf("fed546"));
@@ -94,8 +85,8 @@ public class LeaderboardScreen extends BaseScreen {
         scoreTable.add(new Label("- - - - - - - - - - - - - - - - - -", headerStyle)).colspan(4).center().padBottom(5).row();
 
         // Data Rows
-        for (int i = 0; i < data.leaderBoard.size; i++) {
-            LBScore entry = data.leaderBoard.get(i);
+        for (int i = 0; i < best.size; i++) {
+            LBScore entry = best.get(i);
             Label.LabelStyle currentStyle = (i == 0) ? goldStyle : whiteStyle;
 
             // Column 1: RANK + CROWN
@@ -166,8 +157,9 @@ public class LeaderboardScreen extends BaseScreen {
 
     @Override
     public void dispose() {
-        if (customFont != null) customFont.dispose();
-        if (lbPic != null) lbPic.dispose();
+        if (customFont != null) main.fonts.release(FONT);
+        if (lbPic != null) main.assets.release("LB.png");
+        if (crownTex != null) main.assets.release("crown.png");
         super.dispose();
     }
 }
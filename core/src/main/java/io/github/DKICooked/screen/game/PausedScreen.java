@@ -5,7 +5,6 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -13,9 +12,11 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
 
 public class PausedScreen extends Table {
     private final Main main;
+    private static final FontKey FONT = new FontKey(32, 2f, 0, Color.WHITE);
     private BitmapFont pauseFont;
     private Texture dimTex, pausedLabel;
     private Image pausedImage;
@@ -43,7 +44,7 @@ public class PausedScreen extends Table {
         btnStyle.fontColor = Color.valueOf("f8c72c");
         btnStyle.overFontColor = Color.valueOf("#ef901f");
         // 3. Header & Animation
-        pausedLabel = new Texture(Gdx.files.internal("Paused.png"));
+        pausedLabel = main.assets.texture("Paused.png");
         pausedImage = new Image(pausedLabel);
         pausedImage.setOrigin(Align.center);
         pausedImage.addAction(Actions.forever(Actions.sequence(
@@ -81,12 +82,7 @@ public class PausedScreen extends Table {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 32;
-        parameter.borderWidth = 2f;
-        pauseFont = generator.generateFont(parameter);
-        generator.dispose();
+        pauseFont = main.fonts.acquire(FONT);
     }
 
     public void toggle(boolean show) {
@@ -94,8 +90,8 @@ public class PausedScreen extends Table {
     }
 
     public void dispose() {
-        if (pauseFont != null) pauseFont.dispose();
+        if (pauseFont != null) main.fonts.release(FONT);
         if (dimTex != null) dimTex.dispose();
-        if (pausedLabel != null) pausedLabel.dispose();
+        if (pausedLabel != null) main.assets.release("Paused.png");
     }
 }
@@ -5,15 +5,16 @@ import io.github.DKICooked.screen.BaseScreen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.ScreenUtils;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
 
 public class IntroScreen extends BaseScreen {
     private final Main main;
+    private static final FontKey FONT = FontKey.plain(32);
     private BitmapFont font;
 
     public IntroScreen(Main main) {
@@ -21,12 +22,7 @@ public class IntroScreen extends BaseScreen {
 
         main.soundPlayer.playStartupSoft();
 
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 32;
-        parameter.color = Color.WHITE;
-        font = generator.generateFont(parameter);
-        generator.dispose();
+        font = main.fonts.acquire(FONT);
 
         Label cookedLabel = new Label("COOKED PRESENTS...", new Label.LabelStyle(font, Color.WHITE));
         cookedLabel.getColor().a = 0;
@@ -56,6 +52,6 @@ public class IntroScreen extends BaseScreen {
     @Override
     public void dispose() {
         super.dispose();
-        if (font != null) font.dispose();
+        if (font != null) main.fonts.release(FONT);
     }
 }
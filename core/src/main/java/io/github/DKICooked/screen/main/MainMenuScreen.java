@@ -4,7 +4,6 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.ui.Container;
@@ -15,6 +14,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Scaling;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.assets.FontKey;
 import io.github.DKICooked.audio.SoundPlayer;
 import io.github.DKICooked.screen.BaseScreen;
 import io.github.DKICooked.screen.game.CharacterSelectScreen;
@@ -26,6 +26,7 @@ public class MainMenuScreen extends BaseScreen {
     private final Main main;
     private final Texture titleText;
     private final Texture subTitleText;
+    private static final FontKey FONT = new FontKey(26, 1.5f, 2, Color.WHITE);
     private BitmapFont menuFont;
 
 
@@ -40,8 +41,8 @@ public class MainMenuScreen extends BaseScreen {
         createFonts();
 
         // 2. KEEP TITLES (Your original logic)
-        titleText = new Texture(Gdx.files.internal("toyour.png"));
-        subTitleText = new Texture(Gdx.files.internal("Infinity.png"));
+        titleText = main.assets.texture("toyour.png");
+        subTitleText = main.assets.texture("Infinity.png");
 
         Image title = new Image(titleText);
         Image subTitle = new Image(subTitleText);
@@ -124,24 +125,14 @@ public class MainMenuScreen extends BaseScreen {
     }
 
     private void createFonts() {
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("new_font.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = 26; // Adjust this to match your UI scale
-        parameter.borderWidth = 1.5f;
-        parameter.borderColor = Color.BLACK;
-        parameter.shadowOffsetX = 2;
-        parameter.shadowOffsetY = 2;
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
-
-        menuFont = generator.generateFont(parameter);
-        generator.dispose();
+        menuFont = main.fonts.acquire(FONT);
     }
 
     @Override
     public void dispose() {
         super.dispose();
-        titleText.dispose();
-        subTitleText.dispose();
-        if (menuFont != null) menuFont.dispose();
+        main.assets.release("toyour.png");
+        main.assets.release("Infinity.png");
+        if (menuFont != null) main.fonts.release(FONT);
     }
 }
@@ -2,6 +2,7 @@ package io.github.DKICooked.screen.main;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
@@ -20,6 +21,8 @@ public class SplashScreen extends BaseScreen {
     private final Main main;
     private final Texture titleTex;
     private final Texture subTitleTex;
+    private final Texture barTex;
+    private final Image progressBar;
 
 
     public SplashScreen(Main main) {
@@ -27,8 +30,8 @@ public class SplashScreen extends BaseScreen {
 
         main.soundPlayer.playStartupFast();
 
-        titleTex = new Texture(Gdx.files.internal("toyour.png"));
-        subTitleTex = new Texture(Gdx.files.internal("Infinity.png"));
+        titleTex = main.assets.texture("toyour.png");
+        subTitleTex = main.assets.texture("Infinity.png");
 
         Image titleImg = new Image(titleTex);
         Image subTitleImg = new Image(subTitleTex);
@@ -44,6 +47,17 @@ public class SplashScreen extends BaseScreen {
         table.add(subTitleImg).width(460).height(115).row();
         stage.addActor(table);
 
+        // Loading bar for the resident assets streaming in behind the logo
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        barTex = new Texture(pixmap);
+        pixmap.dispose();
+        progressBar = new Image(barTex);
+        progressBar.setColor(Color.valueOf("f8c72c"));
+        progressBar.setBounds(250, 120, 0, 4);
+        stage.addActor(progressBar);
+
         // Sequential fade in for the logo
         titleImg.addAction(Actions.fadeIn(1f));
         subTitleImg.addAction(Actions.sequence(
@@ -69,6 +83,7 @@ public class SplashScreen extends BaseScreen {
     @Override
     public void render(float delta) {
         ScreenUtils.clear(0, 0, 0, 1); // Black background for that retro intro feel
+        progressBar.setWidth(300 * main.assets.getProgress());
         stage.act(delta);
         stage.draw();
     }
@@ -76,8 +91,9 @@ public class SplashScreen extends BaseScreen {
     @Override
     public void dispose() {
         super.dispose();
-        titleTex.dispose();
-        subTitleTex.dispose();
+        main.assets.release("toyour.png");
+        main.assets.release("Infinity.png");
+        barTex.dispose();
 
     }
 
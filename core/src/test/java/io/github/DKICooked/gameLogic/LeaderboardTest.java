@@ -0,0 +1,44 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.DKICooked.entities.LBScore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+    private static final int PLACES = 10;
+
+    @Test
+    void tyingLastPlaceIsNotAHighScore() {
+        Leaderboard board = new Leaderboard();
+        for (int i = 0; i < PLACES; i++) board.add("run" + i, 100 - i, "Jerick"); // 100 down to 91
+
+        assertFalse(board.isHighScore(91, PLACES));
+        assertTrue(board.isHighScore(92, PLACES));
+
+        // A tie ranks below the earlier runs, which is why it cannot make the top ten
+        LBScore tie = board.add("late", 91, "Jerick");
+        Array<LBScore> top = board.top(PLACES, new Array<>());
+        assertEquals(PLACES, top.size);
+        assertFalse(top.contains(tie, true));
+    }
+
+    @Test
+    void highScoreLandsOnTheBoard() {
+        Leaderboard board = new Leaderboard();
+        for (int i = 0; i < PLACES; i++) board.add("run" + i, 50, "Alaine");
+
+        assertTrue(board.isHighScore(51, PLACES));
+        LBScore best = board.add("best", 51, "Timothy");
+        assertEquals(best, board.top(1, new Array<>()).first());
+    }
+
+    @Test
+    void zeroIsNeverAHighScore() {
+        assertFalse(new Leaderboard().isHighScore(0, PLACES));
+        assertTrue(new Leaderboard().isHighScore(1, PLACES));
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.DKICooked.gameLogic;
+
+import com.badlogic.gdx.files.FileHandle;
+import io.github.DKICooked.gameLogic.sim.DeathCause;
+import io.github.DKICooked.gameLogic.sim.InputFrame;
+import io.github.DKICooked.gameLogic.sim.Raid;
+import io.github.DKICooked.gameLogic.sim.Simulation;
+import io.github.DKICooked.gameLogic.sim.SimulationListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** Run records written the way {@link SaveManager} appends them, then read back through the queries. */
+class RunHistoryTest {
+    private static final float TICK = 1 / 180f;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void givenUpClimbKeepsItsLengthButIsNotADeath() throws IOException {
+        FileHandle file = new FileHandle(dir.resolve("runs.bin").toFile());
+        RunHistory history = new RunHistory(file);
+
+        Simulation sim = new Simulation(7, "Jerick", TICK, null, SimulationListener.NONE);
+        InputFrame idle = new InputFrame();
+        int ticks = (int) (12 / TICK);
+        for (int i = 0; i < ticks; i++) sim.step(idle);
+        sim.giveUp();
+
+        assertEquals(Simulation.State.OVER, sim.getState());
+        assertEquals(DeathCause.GAVE_UP, sim.getDeathCause());
+        assertEquals(ticks, sim.getDeathTick());
+        assertEquals((int) (sim.getPlayer().getY() / 100f), sim.getDeathHeight());
+
+        history.add(sim, 1234L);
+        Files.write(file.file().toPath(), history.takePending(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        sim.dispose();
+
+        assertEquals(1, history.size());
+        assertEquals(1, history.deathCauses()[DeathCause.GAVE_UP.ordinal()]);
+        assertEquals(12f, history.medianDuration(), 1e-3f);
+        int[][] heatmap = history.deathHeatmap(10, 4);
+        for (Raid raid : Raid.values()) {
+            for (int count : heatmap[raid.ordinal()]) assertEquals(0, count, "a given-up climb counted as a death");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.DKICooked.gameLogic.generationLogic;
+
+import io.github.DKICooked.entities.PlatformStore;
+import io.github.DKICooked.gameLogic.WorldManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LevelGeneratorTest {
+    private static final float CHUNK_HEIGHT = WorldManager.CHUNK_HEIGHT;
+    private static final int CHUNKS = 40;
+    private static final long[] SEEDS = { 1, 7, 42, 1234567, -99 };
+
+    @Test
+    void chunkGeneratedAloneMatchesChunkGeneratedInSequence() {
+        for (long seed : SEEDS) {
+            LevelGenerator inSequence = new LevelGenerator(seed);
+            PlatformStore[] climbed = new PlatformStore[CHUNKS];
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                climbed[chunk] = new PlatformStore();
+                inSequence.generateChunk(climbed[chunk], chunk, CHUNK_HEIGHT);
+            }
+
+            // Top down on a fresh generator, the order a world reloading old chunks might use
+            LevelGenerator alone = new LevelGenerator(seed);
+            for (int chunk = CHUNKS - 1; chunk >= 0; chunk--) {
+                PlatformStore store = new PlatformStore();
+                alone.generateChunk(store, chunk, CHUNK_HEIGHT);
+                assertSameContents(climbed[chunk], store, "seed " + seed + ", chunk " + chunk);
+            }
+        }
+    }
+
+    @Test
+    void slabsNeverOverlap() {
+        for (long seed : SEEDS) {
+            LevelGenerator generator = new LevelGenerator(seed);
+            PlatformStore below = new PlatformStore();
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                PlatformStore store = new PlatformStore();
+                generator.generateChunk(store, chunk, CHUNK_HEIGHT);
+                String where = "seed " + seed + ", chunk " + chunk;
+                for (int i = 0; i < store.size; i++) {
+                    for (int j = i + 1; j < store.size; j++) assertApart(store, i, store, j, where);
+                    for (int j = 0; j < below.size; j++) assertApart(store, i, below, j, where); // the entry nodes
+                }
+                below = store;
+            }
+        }
+    }
+
+    private static void assertSameContents(PlatformStore expected, PlatformStore actual, String where) {
+        assertEquals(expected.size, actual.size, where);
+        int n = expected.size;
+        assertArrayEquals(Arrays.copyOf(expected.x1, n), Arrays.copyOf(actual.x1, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.y1, n), Arrays.copyOf(actual.y1, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.x2, n), Arrays.copyOf(actual.x2, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.y2, n), Arrays.copyOf(actual.y2, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.thickness, n), Arrays.copyOf(actual.thickness, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.kind, n), Arrays.copyOf(actual.kind, n), where);
+        assertArrayEquals(Arrays.copyOf(expected.powerUp, n), Arrays.copyOf(actual.powerUp, n), where);
+    }
+
+    /** Slabs are 3 tiles wide and a tile tall; two closer than that, plus a little air, would overlap. */
+    private static void assertApart(PlatformStore a, int i, PlatformStore b, int j, String where) {
+        if (a.kind[i] != PlatformStore.SLAB || b.kind[j] != PlatformStore.SLAB) return;
+        float dx = Math.abs((a.x1[i] + a.x2[i]) - (b.x1[j] + b.x2[j])) / 2;
+        float dy = Math.abs(a.y1[i] - b.y1[j]);
+        assertFalse(dx < 130 && dy < 45, () -> where + ": slabs at y " + a.y1[i] + " and " + b.y1[j]
+            + " are " + dx + " apart");
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.DKICooked.gameLogic.sim;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Logs written to disk and read back give the same header and the same button on every tick. */
+class InputLogTest {
+    private static final float TICK = 1 / 180f;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsShortRuns() {
+        RandomXS128 random = new RandomXS128(42);
+        int[] buttons = new int[20_000];
+        for (int i = 0; i < buttons.length; ) {
+            int held = random.nextInt(1 << InputFrame.BITS);
+            int run = 1 + random.nextInt(random.nextBoolean() ? 3 : 400); // single ticks as well as longer holds
+            for (int end = Math.min(buttons.length, i + run); i < end; i++) buttons[i] = held;
+        }
+
+        InputLog read = roundTrip(record(buttons), "runs.dkr");
+        assertEquals(buttons.length, read.ticks);
+        assertFrames(buttons, read);
+    }
+
+    @Test
+    void roundTripsAHoldLongerThanAnyClimb() {
+        int[] buttons = new int[3_000_000]; // over 4.5 hours at 180 ticks a second, in one run
+        Arrays.fill(buttons, InputFrame.JUMP | InputFrame.RIGHT);
+        buttons[buttons.length - 1] = 0;
+
+        InputLog log = record(buttons);
+        assertTrue(log.getPackedSize() < 16, "one long run packs to " + log.getPackedSize() + " bytes");
+        assertFrames(buttons, roundTrip(log, "hold.dkr"));
+    }
+
+    @Test
+    void roundTripsAnEmptyLog() {
+        InputLog read = roundTrip(record(new int[0]), "empty.dkr");
+        assertEquals(0, read.ticks);
+        assertEquals(0, read.getPackedSize());
+        assertFalse(read.frames().hasNext());
+
+        Simulation sim = Replay.run(read);
+        assertEquals(0, sim.getTicks());
+        sim.dispose();
+    }
+
+    @Test
+    void snapshotMidClimbDoesNotDisturbTheRecording() {
+        int[] buttons = { 1, 1, 1, 2, 2, 4, 4, 4, 4, 0 };
+        Simulation sim = new Simulation(3, "Alaine", TICK, null, SimulationListener.NONE);
+        InputLog.Recorder recorder = new InputLog.Recorder(sim);
+        InputFrame frame = new InputFrame();
+        for (int i = 0; i < buttons.length; i++) {
+            recorder.record(frame.set(buttons[i]));
+            if (i == 4) assertEquals(5, recorder.finish(0).ticks);
+        }
+        sim.dispose();
+        assertFrames(buttons, recorder.finish(0));
+    }
+
+    private InputLog roundTrip(InputLog log, String name) {
+        FileHandle file = new FileHandle(dir.resolve(name).toFile());
+        log.write(file);
+        InputLog read = InputLog.read(file);
+        assertEquals(log.seed, read.seed);
+        assertEquals(log.character, read.character);
+        assertEquals(log.tick, read.tick);
+        assertEquals(log.ticks, read.ticks);
+        assertEquals(log.score, read.score);
+        assertEquals(log.getPackedSize(), read.getPackedSize());
+        return read;
+    }
+
+    private static InputLog record(int[] buttons) {
+        Simulation sim = new Simulation(99, "Timothy", TICK, null, SimulationListener.NONE);
+        InputLog.Recorder recorder = new InputLog.Recorder(sim);
+        sim.dispose(); // only its seed, character and tick are needed
+        InputFrame frame = new InputFrame();
+        for (int held : buttons) recorder.record(frame.set(held));
+        return recorder.finish(17);
+    }
+
+    private static void assertFrames(int[] buttons, InputLog log) {
+        InputLog.Cursor frames = log.frames();
+        InputFrame frame = new InputFrame();
+        for (int i = 0; i < buttons.length; i++) {
+            assertTrue(frames.hasNext(), "log ended at tick " + i);
+            int read = frames.next(frame).getButtons();
+            if (read != buttons[i]) assertEquals(buttons[i], read, "buttons at tick " + i);
+        }
+        assertFalse(frames.hasNext());
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.DKICooked.gameLogic.sim;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.RandomXS128;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays climbs with a random bot while recording them, then replays each saved log and checks that the
+ * replay ends exactly where the climb did: same tick count, height, cause of death and player position.
+ */
+class ReplayTest {
+    private static final float TICK = 1 / 180f;
+    private static final int SEEDS = 40;
+    private static final int MAX_TICKS = (int) (60 / TICK);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayMatchesTheRecordedClimb() {
+        int deaths = 0;
+        for (long seed = 1; seed <= SEEDS; seed++) {
+            Simulation played = new Simulation(seed, "Jerick", TICK, null, SimulationListener.NONE);
+            InputLog.Recorder recorder = new InputLog.Recorder(played);
+            RandomXS128 bot = new RandomXS128(seed * 31);
+            InputFrame input = new InputFrame();
+            int hold = 0;
+            while (!played.isOver() && recorder.getTicks() < MAX_TICKS) {
+                if (hold-- <= 0) { // a new choice every 20 to 130 ticks, as a player pressing keys would
+                    int move = bot.nextInt(3);
+                    input.set(move == 0, move == 1, bot.nextInt(3) == 0);
+                    hold = 20 + bot.nextInt(110);
+                }
+                recorder.record(input);
+                played.step(input);
+            }
+            if (played.getDeathCause() != DeathCause.NONE) deaths++;
+
+            FileHandle file = new FileHandle(dir.resolve(seed + ".dkr").toFile());
+            recorder.finish(played.getRecordHeight()).write(file);
+            InputLog log = InputLog.read(file);
+            Simulation replayed = Replay.run(log);
+
+            String climb = "seed " + seed;
+            assertEquals(played.getTicks(), replayed.getTicks(), climb);
+            assertEquals(played.getRecordHeight(), replayed.getRecordHeight(), climb);
+            assertEquals(played.getState(), replayed.getState(), climb);
+            assertEquals(played.getDeathCause(), replayed.getDeathCause(), climb);
+            assertEquals(played.getDeathTick(), replayed.getDeathTick(), climb);
+            assertEquals(played.getDeathHeight(), replayed.getDeathHeight(), climb);
+            assertEquals(played.getRaidsStarted(), replayed.getRaidsStarted(), climb);
+            assertEquals(played.getPlayer().getX(), replayed.getPlayer().getX(), climb);
+            assertEquals(played.getPlayer().getY(), replayed.getPlayer().getY(), climb);
+            assertTrue(Replay.verify(log), climb);
+
+            played.dispose();
+            replayed.dispose();
+        }
+        assertTrue(deaths > 0, "no climb died, so no death was replayed");
+    }
+}
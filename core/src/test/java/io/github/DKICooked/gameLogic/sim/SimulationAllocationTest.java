@@ -0,0 +1,78 @@
+package io.github.DKICooked.gameLogic.sim;
+
+import com.sun.management.ThreadMXBean;
+import io.github.DKICooked.entities.PlayerActor;
+import io.github.DKICooked.gameLogic.WorldManager;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Steps a headless climb through a raid and checks that, once the pools have filled, a tick allocates
+ * nothing. The player is held in the top left corner of a chunk above the raid start height: UFOs fly
+ * below it and asteroids have fallen past it by the time they drift that far left. So hazards keep
+ * spawning, moving, despawning and being tested against the player for as long as the test runs,
+ * and the raid never ends because the player never climbs out of it. The build runs tests on C1 alone,
+ * so a pass does not depend on escape analysis.
+ */
+class SimulationAllocationTest {
+    private static final float TICK = 1 / 180f;
+    private static final float PARK_X = 0;
+    private static final float PARK_Y = 3 * WorldManager.CHUNK_HEIGHT - 1; // top of the chunk a raid first starts in
+    private static final int WARM_UP_TICKS = (int) (30 / TICK); // past the pity power-up at 20 s stuck
+    private static final int MEASURED_TICKS = (int) (20 / TICK);
+    private static final int MAX_SEEDS = 64;
+
+    @ParameterizedTest
+    @EnumSource(value = Raid.class, names = { "ASTEROIDS", "UFO" })
+    void raidTicksDoNotAllocate(Raid raid) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Simulation sim = startRaid(raid);
+        InputFrame idle = new InputFrame();
+        for (int i = 0; i < WARM_UP_TICKS; i++) stepParked(sim, idle);
+
+        int chunk = sim.getWorld().getCurrentChunk();
+        int mostActors = 0;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            stepParked(sim, idle);
+            mostActors = Math.max(mostActors, sim.getActors().getChildren().size);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(Simulation.State.PLAYING, sim.getState(), () -> sim.getDeathCause() + " at tick " + sim.getDeathTick());
+        assertEquals(raid, sim.getActiveRaid());
+        assertEquals(chunk, sim.getWorld().getCurrentChunk());
+        assertTrue(mostActors > 1, "no hazards were live while measuring");
+        assertEquals(0, allocated, "bytes allocated over " + MEASURED_TICKS + " ticks of " + raid);
+        sim.dispose();
+    }
+
+    /** The first seed whose first raid is {@code raid}, with the player parked and the raid just started. */
+    private static Simulation startRaid(Raid raid) {
+        InputFrame idle = new InputFrame();
+        for (long seed = 1; seed <= MAX_SEEDS; seed++) {
+            Simulation sim = new Simulation(seed, "Jerick", TICK, null, SimulationListener.NONE);
+            while (sim.getActiveRaid() == Raid.NONE && sim.getState() == Simulation.State.PLAYING) stepParked(sim, idle);
+            if (sim.getActiveRaid() == raid) return sim;
+            sim.dispose();
+        }
+        throw new AssertionError("No seed up to " + MAX_SEEDS + " starts with " + raid);
+    }
+
+    private static void stepParked(Simulation sim, InputFrame input) {
+        PlayerActor player = sim.getPlayer();
+        player.setPosition(PARK_X, PARK_Y);
+        player.getBody().velocityX = 0;
+        player.getBody().velocityY = 0;
+        sim.step(input);
+    }
+}
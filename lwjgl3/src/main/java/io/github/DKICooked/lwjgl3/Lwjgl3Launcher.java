@@ -4,16 +4,36 @@ import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import io.github.DKICooked.Main;
+import io.github.DKICooked.gameLogic.physics.FixedStepScheduler;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    private static final String TICK_RATE_ARG = "--tick-rate=";
+
     public static void main(String[] args) {
-        if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+        if (StartupHelper.startNewJvmIfRequired(true, args)) return; // This handles macOS support and helps on Windows.
+        createApplication(readTick(args));
+    }
+
+    private static Lwjgl3Application createApplication(float tick) {
+        return new Lwjgl3Application(new Main(tick), getDefaultConfiguration());
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    /**
+     * Seconds per simulation tick, from {@code --tick-rate=<ticks per second>}. A slow machine can run fewer,
+     * coarser ticks; rates outside {@link FixedStepScheduler#MIN_TICK_RATE} to
+     * {@link FixedStepScheduler#MAX_TICK_RATE} are clamped, and without the argument the default tick is used.
+     */
+    private static float readTick(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith(TICK_RATE_ARG)) continue;
+            try {
+                return FixedStepScheduler.tickForRate(Integer.parseInt(arg.substring(TICK_RATE_ARG.length())));
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring " + arg + ": the tick rate must be a whole number of ticks per second.");
+            }
+        }
+        return FixedStepScheduler.DEFAULT_TICK;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
@@ -26,6 +26,7 @@ import org.lwjgl.system.macosx.ObjCRuntime;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -99,11 +100,12 @@ public class StartupHelper {
 	 * </code></pre>
 	 * @param inheritIO whether I/O should be inherited in the child JVM process. Please note that enabling this will
 	 *                  block the thread until the child JVM process stops executing.
+	 * @param args the program arguments, passed on to the child JVM process
 	 * @return whether a child JVM process was spawned or not.
 	 */
-	public static boolean startNewJvmIfRequired(boolean inheritIO) {
+	public static boolean startNewJvmIfRequired(boolean inheritIO, String... args) {
 		String osName = System.getProperty("os.name").toLowerCase(Locale.ROOT);
-		if (osName.contains("mac")) return startNewJvm0(/*isMac =*/ true, inheritIO);
+		if (osName.contains("mac")) return startNewJvm0(/*isMac =*/ true, inheritIO, args);
 		if (osName.contains("windows")) {
 			// Here, we are trying to work around an issue with how LWJGL3 loads its extracted .dll files.
 			// By default, LWJGL3 extracts to the directory specified by "java.io.tmpdir": usually, the user's home.
@@ -125,7 +127,7 @@ public class StartupHelper {
 			System.setProperty("user.name", prevUser);
 			return false;
 		}
-		return startNewJvm0(/*isMac =*/ false, inheritIO);
+		return startNewJvm0(/*isMac =*/ false, inheritIO, args);
 	}
 
 	private static final String MAC_JRE_ERR_MSG = "A Java installation could not be found. If you are distributing this app with a bundled JRE, be sure to set the '-XstartOnFirstThread' argument manually!";
@@ -142,9 +144,10 @@ public class StartupHelper {
 	 *             an immediate check for NVIDIA drivers is performed).
 	 * @param inheritIO whether I/O should be inherited in the child JVM process. Please note that enabling this will
 	 *                 block the thread until the child JVM process stops executing.
+	 * @param args the program arguments, passed on to the child JVM process
 	 * @return whether a child JVM process was spawned or not.
 	 */
-	public static boolean startNewJvm0(boolean isMac, boolean inheritIO) {
+	public static boolean startNewJvm0(boolean isMac, boolean inheritIO, String... args) {
 		long processID = getProcessID(isMac);
 		if (!isMac) {
 			// No need to restart non-NVIDIA Linux
@@ -199,6 +202,7 @@ public class StartupHelper {
 			}
 		}
 		jvmArgs.add(mainClass);
+		jvmArgs.addAll(Arrays.asList(args));
 
 		try {
 			ProcessBuilder processBuilder = new ProcessBuilder(jvmArgs);